@@ -17,6 +17,7 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long saveDelayMillis = 500;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +35,17 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns how long changes are collected, in milliseconds, before they are written to the data file together.
+     */
+    public long getSaveDelayMillis() {
+        return saveDelayMillis;
+    }
+
+    public void setSaveDelayMillis(long saveDelayMillis) {
+        this.saveDelayMillis = saveDelayMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +59,13 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && saveDelayMillis == otherConfig.saveDelayMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, saveDelayMillis);
     }
 
     @Override
@@ -60,6 +73,7 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("saveDelayMillis", saveDelayMillis)
                 .toString();
     }
 
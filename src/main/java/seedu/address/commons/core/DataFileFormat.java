@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats the address book data file can be saved in.
+ */
+public enum DataFileFormat {
+    /** Human-readable json, with each wedding in its own file. */
+    JSON,
+    /** A compact binary file that is faster to load and save. */
+    BINARY
+}
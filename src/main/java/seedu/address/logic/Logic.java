@@ -1,6 +1,9 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import javafx.beans.property.ReadOnlyStringProperty;
 import javafx.collections.ObservableList;
@@ -25,6 +28,22 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command on a background thread, after all commands submitted before it have been executed.
+     * The data changed by the command, including the lists returned by this {@code Logic}, is changed on that
+     * thread, so {@link #execute(String)} should not be called while commands submitted here are still running.
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution, completed exceptionally with a {@code CommandException} or
+     *     {@code ParseException} if the command fails, or with whatever else the command throws, errors included.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Stops accepting commands, and waits for the commands submitted with {@link #executeAsync(String)} to finish,
+     * so that the changes they make are seen by the data saved afterwards.
+     */
+    void shutdown();
+
     /**
      * Returns the AddressBook.
      *
@@ -52,7 +71,20 @@ public interface Logic {
      */
     void setGuiSettings(GuiSettings guiSettings);
 
-    /** Returns the wedding name property for binding */
+    /** Returns the wedding name property for binding, which is only changed on the UI thread */
     ReadOnlyStringProperty weddingNameProperty();
 
+    /**
+     * Returns the names of the current wedding's guests that start with {@code prefix}, ignoring case, in
+     * alphabetical order. At most {@link LogicManager#MAX_NAME_COMPLETIONS} names are returned, and none if no wedding
+     * is set. The guests are those after the last command that finished, and must be read on the UI thread.
+     */
+    List<String> getGuestNameCompletions(String prefix);
+
+    /**
+     * Sets the handler notified with an error message when saving data in the background fails.
+     * The handler may be called on a background thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
 }
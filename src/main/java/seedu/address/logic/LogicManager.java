@@ -3,7 +3,16 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.beans.property.ReadOnlyStringProperty;
 import javafx.beans.property.SimpleStringProperty;
@@ -16,10 +25,13 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.WeddingSwitched;
 import seedu.address.model.exceptions.NoCurrentWeddingException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.table.Table;
 import seedu.address.model.wedding.Wedding;
 import seedu.address.storage.Storage;
@@ -33,51 +45,132 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final int MAX_NAME_COMPLETIONS = 8;
+
+    /** How long {@link #shutdown()} waits for the commands still running to finish. */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    /** Runs the updates of the values read by the UI, on the thread the UI reads them on. */
+    private final Executor uiExecutor;
+    /** Only changed through {@code uiExecutor}. */
     private final StringProperty weddingNameProperty = new SimpleStringProperty("");
+    /**
+     * A copy of the current wedding's guests that name completions are served from, or null if no wedding is set.
+     * Only read and replaced through {@code uiExecutor}, so completions never read the guests being changed.
+     */
+    private UniquePersonList completionGuests;
+    /** True if the guests were changed, or another wedding became current, since {@code completionGuests} was taken. */
+    private boolean isCompletionGuestsStale = false;
+    /** The model's modification count when the address book was last saved. */
+    private long savedModificationCount;
+    /** The changes made to the address book since it was last saved. */
+    private final List<AddressBookChange> unsavedChanges = new ArrayList<>();
+    /** Runs the commands submitted with {@link #executeAsync(String)} one at a time, in the order submitted. */
+    private final ExecutorService commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-executor");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, that updates the values
+     * read by the UI on the thread that changes the model.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Runnable::run);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, that updates the values
+     * read by the UI, such as {@link #weddingNameProperty()}, through {@code uiExecutor}.
+     */
+    public LogicManager(Model model, Storage storage, Executor uiExecutor) {
         this.model = model;
         this.storage = storage;
+        this.uiExecutor = uiExecutor;
         addressBookParser = new AddressBookParser();
+        savedModificationCount = model.getModificationCount();
+        model.addAddressBookChangeListener(unsavedChanges::add);
+        model.addAddressBookChangeListener(unused -> isCompletionGuestsStale = true);
 
-        // Initialize wedding name if available
+        // Initialize wedding name and completions if available
         updateWeddingNameProperty();
+        publishCompletionGuests();
 
-        // Add listener to update wedding name when model changes
-        model.addPropertyChangeListener(evt -> {
-            if ("currentWedding".equals(evt.getPropertyName())) {
-                updateWeddingNameProperty();
-            }
+        // Update the wedding name whenever another wedding becomes current
+        model.addEventListener(WeddingSwitched.class, unused -> {
+            updateWeddingNameProperty();
+            isCompletionGuestsStale = true;
         });
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        try {
+            return executeAndSave(commandText);
+        } finally {
+            if (isCompletionGuestsStale) {
+                publishCompletionGuests();
+            }
+        }
+    }
+
+    private CommandResult executeAndSave(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        long modificationCount = model.getModificationCount();
+        if (modificationCount == savedModificationCount) {
+            // Nothing was changed by the command, so the data file is already up to date
+            return commandResult;
+        }
+
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            storage.saveAddressBookChanges(model.getAddressBookSnapshot(), unsavedChanges);
+            unsavedChanges.clear();
+            savedModificationCount = modificationCount;
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveFailureMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        commandExecutor.execute(() -> {
+            try {
+                result.complete(execute(commandText));
+            } catch (Throwable e) {
+                // Errors, such as failed assertions, must complete the result too, or the caller waits forever
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void shutdown() {
+        commandExecutor.shutdown();
+        try {
+            if (!commandExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Commands still running after " + SHUTDOWN_TIMEOUT_SECONDS + " seconds");
+            }
+        } catch (InterruptedException ie) {
+            logger.warning("Interrupted while waiting for commands to finish");
+            Thread.currentThread().interrupt();
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -113,15 +206,58 @@ public class LogicManager implements Logic {
         return weddingNameProperty;
     }
 
+    @Override
+    public List<String> getGuestNameCompletions(String prefix) {
+        if (completionGuests == null) {
+            return List.of();
+        }
+
+        return completionGuests.findNamesWithPrefix(prefix, MAX_NAME_COMPLETIONS).stream()
+                .map(name -> name.fullName)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        storage.setSaveFailureHandler(e -> saveFailureHandler.accept(getSaveFailureMessage(e)));
+    }
+
+    /**
+     * Returns the message shown to the user when saving data fails with {@code e}.
+     */
+    private static String getSaveFailureMessage(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+    }
+
     /**
      * Updates the wedding name property based on the current wedding in the model
      */
     private void updateWeddingNameProperty() {
+        String weddingName = getCurrentWeddingName();
+        uiExecutor.execute(() -> weddingNameProperty.set(weddingName));
+    }
+
+    private String getCurrentWeddingName() {
         try {
             Wedding currentWedding = model.getCurrentWedding();
-            weddingNameProperty.set(currentWedding.getName());
+            return currentWedding.getName();
         } catch (NoCurrentWeddingException ncwe) {
-            weddingNameProperty.set("Not Set");
+            return "Not Set";
         }
     }
+
+    /**
+     * Copies the current wedding's guests, and hands the copy over to be used for name completions.
+     * The copy shares its chunks with the guests, so taking it does not copy the guests themselves.
+     */
+    private void publishCompletionGuests() {
+        UniquePersonList guests = model.hasCurrentWedding()
+                ? new UniquePersonList(model.getCurrentWedding().getUniquePersonList())
+                : null;
+        isCompletionGuestsStale = false;
+        uiExecutor.execute(() -> completionGuests = guests);
+    }
 }
@@ -3,6 +3,8 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -14,9 +16,12 @@ import seedu.address.model.person.DietaryRestrictionFilter;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Rsvp.Status;
 import seedu.address.model.person.RsvpFilter;
+import seedu.address.model.person.UniquePersonList;
 
 /**
  * Command to filter guests based on dietary restrictions or RSVP status or None.
+ * The guests of the current wedding are tested against its bitmap indexes, which stay up to date as guests are later
+ * edited, so the displayed list keeps following the filters.
  */
 public class FilterPersonsCommand extends Command {
     public static final String COMMAND_WORD = "filterPersons";
@@ -31,6 +36,8 @@ public class FilterPersonsCommand extends Command {
     final Predicate<Person> dietaryRestrictionFilter;
     final Predicate<Person> rsvpFilter;
     final Predicate<Person> combinedPredicate;
+    private final Set<TypicalRestriction> restrictions = EnumSet.noneOf(TypicalRestriction.class);
+    private final Set<Status> statuses = EnumSet.noneOf(Status.class);
 
     /**
      * Constructs a FilterPersonsCommand with the specified dietary and RSVP filters.
@@ -48,9 +55,11 @@ public class FilterPersonsCommand extends Command {
         Predicate<Person> predicate = PREDICATE_SHOW_ALL_PERSONS;
         if (dietaryFilter != null) {
             predicate = predicate.and(dietaryFilter);
+            restrictions.add(dietaryFilter.getDietaryRestriction().getTypicalRestriction());
         }
         if (rsvpFilter != null) {
             predicate = predicate.and(rsvpFilter);
+            statuses.add(rsvpFilter.getRsvp().getStatus());
         }
         this.combinedPredicate = predicate;
     }
@@ -58,9 +67,15 @@ public class FilterPersonsCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredPersonList(combinedPredicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        if (!model.hasCurrentWedding()) {
+            model.updateFilteredPersonList(combinedPredicate);
+            return new CommandResult(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 0));
+        }
+
+        UniquePersonList guests = model.getCurrentWedding().getUniquePersonList();
+        model.updateFilteredPersonList(guests.getAttributePredicate(restrictions, statuses, combinedPredicate));
+        int matchCount = guests.countPersonsMatching(restrictions, statuses);
+        return new CommandResult(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, matchCount));
     }
 
     @Override
@@ -6,10 +6,13 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.UniquePersonList;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * Guests of the current wedding are tested against its name word index rather than by splitting their names, and the
+ * index stays up to date, so guests added or renamed later are listed if they match.
  */
 public class FindCommand extends Command {
 
@@ -32,9 +35,11 @@ public class FindCommand extends Command {
         if (!model.hasCurrentWedding()) {
             return new CommandResult(Messages.MESSAGE_NO_CURRENT_WEDDING);
         }
-        model.updateFilteredPersonList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+
+        UniquePersonList guests = model.getCurrentWedding().getUniquePersonList();
+        model.updateFilteredPersonList(guests.getNameKeywordsPredicate(predicate.getKeywords(), predicate));
+        int matchCount = guests.findPersonsByNameKeywords(predicate.getKeywords()).size();
+        return new CommandResult(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, matchCount));
     }
 
     @Override
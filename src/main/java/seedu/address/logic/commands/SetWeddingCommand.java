@@ -6,6 +6,7 @@ import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_WEDDING_NAME;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.exceptions.WeddingLoadingException;
 import seedu.address.model.wedding.exceptions.WeddingNotFoundException;
 
 /**
@@ -22,6 +23,8 @@ public class SetWeddingCommand extends Command {
 
     public static final String MESSAGE_INVALID_NAME = "Wedding name cannot be empty or just spaces.";
 
+    public static final String MESSAGE_WEDDING_NOT_LOADED = "Wedding %1$s could not be loaded from the data file: %2$s";
+
     private final String weddingName;
 
     /**
@@ -48,6 +51,8 @@ public class SetWeddingCommand extends Command {
 
         } catch (WeddingNotFoundException wnfe) {
             throw new CommandException(String.format(MESSAGE_UNKNOWN_WEDDING_NAME, weddingName));
+        } catch (WeddingLoadingException wle) {
+            throw new CommandException(String.format(MESSAGE_WEDDING_NOT_LOADED, weddingName, wle.getMessage()));
         }
     }
 
@@ -1,10 +1,14 @@
 package seedu.address.logic.commands;
 
 import java.util.List;
+import java.util.StringJoiner;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.DietaryRestriction.TypicalRestriction;
+import seedu.address.model.person.GuestCounts;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Rsvp;
 import seedu.address.model.table.UniqueTableList;
 import seedu.address.model.wedding.Wedding;
 
@@ -21,10 +25,14 @@ public class WeddingOverviewCommand extends Command {
         Overview of %1$s's Wedding:
         Number of tables: %2$d
         Number of guests invited: %3$d
+        RSVP: %4$s
+        Dietary restrictions: %5$s
         Person list:
-        %4$s
+        %6$s
         """;
 
+    public static final String MESSAGE_NO_DIETARY_RESTRICTIONS = "None";
+
     public static final String MESSAGE_NO_WEDDING = "No wedding is currently set.";
 
     public WeddingOverviewCommand() {
@@ -40,15 +48,17 @@ public class WeddingOverviewCommand extends Command {
         model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
         model.updateFilteredTableList(Model.PREDICATE_SHOW_ALL_TABLES);
         // ✅ Ensure TableList and RsvpList are properly initialized
-        UniqueTableList tableList = model.getCurrentWedding().getTableList();
+        UniqueTableList tableList = wedding.getTableList();
 
         if (tableList == null) {
             tableList = new UniqueTableList();
         }
 
         int tableCount = tableList.asUnmodifiableObservableList().size();
-        List<Person> guests = model.getFilteredPersonList();
-        int guestCount = guests.size();
+        // The guests listed are counted from the same list, rather than from the filtered list shown, so the totals
+        // always match the list
+        List<Person> guests = wedding.getUniquePersonList().asUnmodifiableObservableList();
+        GuestCounts guestCounts = wedding.getGuestCounts();
 
 
         StringBuilder guestListFormatted = new StringBuilder();
@@ -63,10 +73,39 @@ public class WeddingOverviewCommand extends Command {
         return new CommandResult(String.format(MESSAGE_SUCCESS,
                 wedding.getName(),
                 tableCount,
-                guestCount,
+                guestCounts.getTotal(),
+                formatRsvpCounts(guestCounts),
+                formatDietaryRestrictionCounts(guestCounts),
                 guestListFormatted.toString().trim()));
     }
 
+    /**
+     * Returns the number of guests with each RSVP status, e.g. {@code "YES: 3, NO: 1, NO_RESPONSE: 0"}.
+     */
+    public static String formatRsvpCounts(GuestCounts guestCounts) {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (Rsvp.Status status : Rsvp.Status.values()) {
+            joiner.add(status + ": " + guestCounts.getCount(status));
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * Returns the number of guests with each dietary restriction that at least one guest has, e.g.
+     * {@code "VEGAN: 2, HALAL: 1"}, or {@link #MESSAGE_NO_DIETARY_RESTRICTIONS} if no guest has any.
+     */
+    public static String formatDietaryRestrictionCounts(GuestCounts guestCounts) {
+        StringJoiner joiner = new StringJoiner(", ");
+        joiner.setEmptyValue(MESSAGE_NO_DIETARY_RESTRICTIONS);
+        for (TypicalRestriction restriction : TypicalRestriction.values()) {
+            int count = guestCounts.getCount(restriction);
+            if (restriction != TypicalRestriction.NONE && count > 0) {
+                joiner.add(restriction + ": " + count);
+            }
+        }
+        return joiner.toString();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other instanceof WeddingOverviewCommand;
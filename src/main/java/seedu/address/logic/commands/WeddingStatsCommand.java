@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.WeddingOverviewCommand.formatDietaryRestrictionCounts;
+import static seedu.address.logic.commands.WeddingOverviewCommand.formatRsvpCounts;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.GuestCounts;
+import seedu.address.model.table.Table;
+import seedu.address.model.wedding.Wedding;
+
+/**
+ * Command to show the headcount and catering numbers of the current wedding and each of its tables.
+ * The numbers are read from the running guest counts of the wedding and its tables, so no guest list is walked.
+ */
+public class WeddingStatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "weddingStats";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the headcount and catering numbers of the current wedding and each of its tables.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = """
+        Stats of %1$s's Wedding:
+        Number of guests invited: %2$d
+        RSVP: %3$s
+        Dietary restrictions: %4$s
+        Tables:
+        %5$s
+        """;
+
+    public static final String MESSAGE_TABLE_STATS = "Table %1$d: %2$d/%3$d seated; RSVP: %4$s; "
+            + "Dietary restrictions: %5$s";
+
+    public static final String MESSAGE_NO_TABLES = "No tables added yet.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        Wedding wedding = model.getCurrentWedding();
+        if (wedding == null) {
+            throw new CommandException(WeddingOverviewCommand.MESSAGE_NO_WEDDING);
+        }
+
+        StringBuilder tableStats = new StringBuilder();
+        for (Table table : wedding.getTableList()) {
+            GuestCounts tableCounts = table.getGuestCounts();
+            tableStats.append(String.format(MESSAGE_TABLE_STATS,
+                    table.getTableId(),
+                    tableCounts.getTotal(),
+                    table.getCapacity(),
+                    formatRsvpCounts(tableCounts),
+                    formatDietaryRestrictionCounts(tableCounts))).append("\n");
+        }
+        if (tableStats.length() == 0) {
+            tableStats.append(MESSAGE_NO_TABLES);
+        }
+
+        GuestCounts guestCounts = wedding.getGuestCounts();
+        return new CommandResult(String.format(MESSAGE_SUCCESS,
+                wedding.getName(),
+                guestCounts.getTotal(),
+                formatRsvpCounts(guestCounts),
+                formatDietaryRestrictionCounts(guestCounts),
+                tableStats.toString().trim()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof WeddingStatsCommand;
+    }
+}
@@ -26,8 +26,11 @@ import seedu.address.logic.commands.FindTableCommand;
 import seedu.address.logic.commands.GetAllTablesCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SetWeddingCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.WeddingOverviewCommand;
+import seedu.address.logic.commands.WeddingStatsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -69,6 +72,12 @@ public class AddressBookParser {
             }
             return new WeddingOverviewCommand();
 
+        case WeddingStatsCommand.COMMAND_WORD:
+            if (!arguments.isEmpty()) {
+                throw new ParseException(WeddingStatsCommand.MESSAGE_USAGE);
+            }
+            return new WeddingStatsCommand();
+
         case SetWeddingCommand.COMMAND_WORD:
             return new SetWeddingCommandParser().parse(arguments);
 
@@ -96,6 +105,12 @@ public class AddressBookParser {
         case ClearCommand.COMMAND_WORD:
             return new ClearCommand();
 
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
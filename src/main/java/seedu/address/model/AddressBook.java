@@ -9,12 +9,11 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.exceptions.NoCurrentWeddingException;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.table.Table;
-import seedu.address.model.table.UniqueTableList;
 import seedu.address.model.wedding.UniqueWeddingList;
 import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.exceptions.WeddingLoadingException;
 import seedu.address.model.wedding.exceptions.WeddingNotFoundException;
 
 /**
@@ -31,8 +30,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Initializes the address book with a default wedding and sets it as the current wedding.
      */
     private final UniqueWeddingList uniqueWeddingList;
-    private final UniquePersonList personList;
-    private final UniqueTableList tableList;
+
+    /**
+     * Live views of the current wedding's guests and tables.
+     * They are re-targeted whenever the current wedding changes, instead of holding copies of its lists.
+     */
+    private final RetargetableObservableList<Person> personList;
+    private final RetargetableObservableList<Table> tableList;
 
     /**
      * Initializes the AddressBook object
@@ -40,8 +44,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public AddressBook() {
         uniqueWeddingList = new UniqueWeddingList();
-        personList = new UniquePersonList();
-        tableList = new UniqueTableList();
+        personList = new RetargetableObservableList<>();
+        tableList = new RetargetableObservableList<>();
     }
 
     /**
@@ -72,8 +76,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         }
 
         uniqueWeddingList.clear();
-        personList.clear();
-        tableList.clear();
+        personList.clearSource();
+        tableList.clearSource();
 
         // Add all weddings from newData, ensuring no duplicates
         for (Wedding wedding : newData.getWeddingList()) {
@@ -85,12 +89,7 @@ public class AddressBook implements ReadOnlyAddressBook {
 
         // Set current wedding if available
         if (newData.hasCurrentWedding() && !uniqueWeddingList.asUnmodifiableObservableList().isEmpty()) {
-            Wedding newCurrentWedding = newData.getCurrentWedding();
-
             setCurrentWeddingByName(newData.getCurrentWedding().getName());
-
-            personList.loadData(newCurrentWedding.getUniquePersonList());
-            tableList.loadData(newCurrentWedding.getTableList());
         }
     }
 
@@ -118,6 +117,10 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     /**
      * Sets the active wedding in the address book. Replaces any existing wedding.
+     * The guests and tables of the wedding are read from storage if they have not been read yet.
+     *
+     * @throws WeddingLoadingException if the wedding could not be read, in which case the current wedding is left
+     *     unchanged.
      */
     public void setCurrentWedding(Wedding wedding) {
         requireNonNull(wedding);
@@ -126,10 +129,11 @@ public class AddressBook implements ReadOnlyAddressBook {
             throw new WeddingNotFoundException();
         }
 
+        wedding.load();
         this.currentWedding = wedding;
 
-        personList.loadData(wedding.getUniquePersonList());
-        tableList.loadData(wedding.getTableList());
+        personList.setSource(wedding.getUniquePersonList().asUnmodifiableObservableList());
+        tableList.setSource(wedding.getTableList().asUnmodifiableObservableList());
     }
 
     /**
@@ -157,6 +161,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         return currentWedding;
     }
 
+    /**
+     * Leaves the address book without a current wedding, without deleting any wedding.
+     */
+    void clearCurrentWedding() {
+        currentWedding = null;
+        personList.clearSource();
+        tableList.clearSource();
+    }
+
     public Wedding getWeddingByName(String weddingName) {
         return this.uniqueWeddingList.findWeddingByName(weddingName);
     }
@@ -178,8 +191,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         uniqueWeddingList.deleteWedding(wedding);
 
         if (wedding == currentWedding) {
-            personList.clear();
-            tableList.clear();
+            personList.clearSource();
+            tableList.clearSource();
             currentWedding = null;
         }
     }
@@ -271,7 +284,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @return true if the person exists, false otherwise
      */
     public boolean hasPerson(Person person) {
-        return personList.contains(person) && getCurrentWedding().hasPerson(person);
+        requireNonNull(person);
+        return hasCurrentWedding() && currentWedding.hasPerson(person);
     }
 
     /**
@@ -282,7 +296,6 @@ public class AddressBook implements ReadOnlyAddressBook {
             throw new DuplicatePersonException();
         }
         getCurrentWedding().addPerson(person);
-        personList.add(person);
     }
 
     /**
@@ -291,15 +304,14 @@ public class AddressBook implements ReadOnlyAddressBook {
      * address book.
      */
     public void setPerson(Person target, Person editedPerson) {
-        getCurrentWedding().setPerson(target, editedPerson);
-        personList.setPerson(target, editedPerson);
+        Wedding wedding = getCurrentWedding();
+        wedding.setPerson(target, editedPerson);
 
         // Since switching tables isn't allowed with the edit command
         if (target.isSeated()) {
-            int tid = target.getTableId();
-            Table oldTable = tableList.findTableById(tid);
+            Table oldTable = wedding.findTableById(target.getTableId());
             oldTable.setPerson(target, editedPerson);
-            tableList.setTable(oldTable, tableList.findTableById(tid));
+            wedding.setTable(oldTable, oldTable);
         }
     }
 
@@ -314,7 +326,6 @@ public class AddressBook implements ReadOnlyAddressBook {
         }
 
         getCurrentWedding().deletePerson(new Person(key, -1));
-        personList.delete(key);
     }
 
     /**
@@ -336,7 +347,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @return true if the table exists, false otherwise
      */
     public boolean hasTable(Table table) {
-        return this.tableList.hasTable(table) && getCurrentWedding().hasTable(table);
+        requireNonNull(table);
+        return hasCurrentWedding() && currentWedding.getTableList().hasTable(table);
     }
 
     /**
@@ -346,7 +358,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @return true if the table exists, false otherwise
      */
     public boolean hasTable(int tableId) {
-        return this.tableList.hasTableById(tableId) && getCurrentWedding().hasTableById(tableId);
+        return hasCurrentWedding() && currentWedding.hasTableById(tableId);
     }
 
     /**
@@ -356,7 +368,6 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addTable(Table table) {
         getCurrentWedding().addTable(table);
-        tableList.addTable(table);
     }
 
     /**
@@ -365,15 +376,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @param table the Table to delete
      */
     public void deleteTable(Table table) {
+        Wedding wedding = getCurrentWedding();
         for (Person p : table.getAllPersons()) {
-            Person removedFromTable = new Person(p, -1);
-            getCurrentWedding().setPerson(p, removedFromTable);
-            this.personList.setPerson(p, removedFromTable);
+            wedding.setPerson(p, new Person(p, -1));
         }
 
-        getCurrentWedding().deleteTable(table);
-
-        tableList.deleteTable(table);
+        wedding.deleteTable(table);
     }
 
     /**
@@ -395,7 +403,6 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setTable(Table target, Table editedTable) {
         requireNonNull(editedTable);
         getCurrentWedding().setTable(target, editedTable);
-        tableList.setTable(target, editedTable);
     }
 
     /**
@@ -405,16 +412,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @param table the Table to add the person to
      */
     public void addPersonToTable(Person p, Table table) {
-        int tableId = table.getTableId();
-        int oldTableId = p.getTableId();
-
         getCurrentWedding().addPersonToTable(p, table);
-        personList.setPerson(p, new Person(p, tableId));
-        tableList.setTable(table, getCurrentWedding().findTableById(tableId));
-        if (oldTableId > -1) {
-            tableList.setTable(getCurrentWedding().findTableById(oldTableId),
-                getCurrentWedding().findTableById(oldTableId));
-        }
     }
 
     /**
@@ -424,7 +422,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @param tableId the ID of the Table to add the person to
      */
     public void addPersonToTableById(Person p, int tableId) {
-        Table t = this.tableList.findTableById(tableId);
+        Table t = getCurrentWedding().findTableById(tableId);
         addPersonToTable(p, t);
     }
 
@@ -436,8 +434,6 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void deletePersonFromTable(Person p, Table table) {
         this.getCurrentWedding().deletePersonFromTable(p, table);
-        personList.setPerson(p, new Person(p, -1));
-        tableList.setTable(table, this.getCurrentWedding().findTableById(table.getTableId()));
     }
 
     /**
@@ -461,6 +457,26 @@ public class AddressBook implements ReadOnlyAddressBook {
         return getCurrentWedding().findTableById(tableId);
     }
 
+    // =========== Change notifications =======================================
+
+    /**
+     * Defers change notifications of the person and table lists until {@link #flushListChanges()} is called.
+     * Until then, both lists keep showing their current contents.
+     */
+    public void deferListChanges() {
+        personList.deferChanges();
+        tableList.deferChanges();
+    }
+
+    /**
+     * Fires at most one change notification for each of the person and table lists, covering everything that
+     * changed since {@link #deferListChanges()} was called.
+     */
+    public void flushListChanges() {
+        personList.flushChanges();
+        tableList.flushChanges();
+    }
+
     // =========== Utils ======================================================
 
     @Override
@@ -471,12 +487,12 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     @Override
     public ObservableList<Person> getPersonList() {
-        return this.personList.asUnmodifiableObservableList();
+        return this.personList;
     }
 
     @Override
     public ObservableList<Table> getTableList() {
-        return this.tableList.asUnmodifiableObservableList();
+        return this.tableList;
     }
 
     @Override
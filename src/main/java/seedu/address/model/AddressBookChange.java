@@ -0,0 +1,376 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.event.AddressBookReset;
+import seedu.address.model.event.CurrentWeddingSet;
+import seedu.address.model.event.GuestAdded;
+import seedu.address.model.event.GuestDeleted;
+import seedu.address.model.event.GuestSeated;
+import seedu.address.model.event.GuestUnseated;
+import seedu.address.model.event.GuestUpdated;
+import seedu.address.model.event.ModelEvent;
+import seedu.address.model.event.TableAdded;
+import seedu.address.model.event.TableDeleted;
+import seedu.address.model.event.TableUpdated;
+import seedu.address.model.event.WeddingAdded;
+import seedu.address.model.event.WeddingDeleted;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.table.Table;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.exceptions.WeddingNotFoundException;
+
+/**
+ * A change made to the data of an address book.
+ * Weddings, guests and tables are referred to by name and ID rather than by object, so a change can be recorded and
+ * applied again later to a copy of the address book as it was before the change.
+ * Changes are immutable.
+ */
+public class AddressBookChange {
+
+    /**
+     * The kinds of changes that can be made to an address book.
+     */
+    public enum Type {
+        ADD_WEDDING, DELETE_WEDDING, ADD_PERSON, DELETE_PERSON, SET_PERSON, ADD_TABLE, DELETE_TABLE, SET_TABLE,
+        ADD_PERSON_TO_TABLE, DELETE_PERSON_FROM_TABLE, SET_CURRENT_WEDDING,
+        /** A change that cannot be described on its own, such as replacing all data. */
+        RESET
+    }
+
+    private static final AddressBookChange RESET = new AddressBookChange(Type.RESET, null, null, null, 0, 0, 0);
+
+    private final Type type;
+    private final String weddingName;
+    private final Name personName;
+    private final Person person;
+    private final int tableId;
+    private final int capacity;
+    private final int editedTableId;
+
+    private AddressBookChange(Type type, String weddingName, Name personName, Person person, int tableId,
+            int capacity, int editedTableId) {
+        this.type = type;
+        this.weddingName = weddingName;
+        this.personName = personName;
+        this.person = person;
+        this.tableId = tableId;
+        this.capacity = capacity;
+        this.editedTableId = editedTableId;
+    }
+
+    /**
+     * Returns a change that cannot be applied on its own, so the whole address book has to be saved.
+     */
+    public static AddressBookChange reset() {
+        return RESET;
+    }
+
+    /**
+     * Returns the change of adding {@code wedding}.
+     * Adding a wedding that already has guests or tables, or that has not been loaded from storage, is a reset.
+     */
+    public static AddressBookChange addWedding(Wedding wedding) {
+        requireNonNull(wedding);
+        if (!wedding.isLoaded()
+                || !wedding.getUniquePersonList().asUnmodifiableObservableList().isEmpty()
+                || !wedding.getTableList().asUnmodifiableObservableList().isEmpty()) {
+            return RESET;
+        }
+        return new AddressBookChange(Type.ADD_WEDDING, wedding.getName(), null, null, 0, 0, 0);
+    }
+
+    /**
+     * Returns the change of deleting the wedding named {@code weddingName}.
+     */
+    public static AddressBookChange deleteWedding(String weddingName) {
+        requireNonNull(weddingName);
+        return new AddressBookChange(Type.DELETE_WEDDING, weddingName, null, null, 0, 0, 0);
+    }
+
+    /**
+     * Returns the change of adding {@code person} to the wedding named {@code weddingName}.
+     */
+    public static AddressBookChange addPerson(String weddingName, Person person) {
+        requireAllNonNull(weddingName, person);
+        return new AddressBookChange(Type.ADD_PERSON, weddingName, null, person, 0, 0, 0);
+    }
+
+    /**
+     * Returns the change of deleting the guest named {@code personName} from the wedding named {@code weddingName}.
+     */
+    public static AddressBookChange deletePerson(String weddingName, Name personName) {
+        requireAllNonNull(weddingName, personName);
+        return new AddressBookChange(Type.DELETE_PERSON, weddingName, personName, null, 0, 0, 0);
+    }
+
+    /**
+     * Returns the change of replacing the guest named {@code personName} in the wedding named {@code weddingName}
+     * with {@code editedPerson}.
+     */
+    public static AddressBookChange setPerson(String weddingName, Name personName, Person editedPerson) {
+        requireAllNonNull(weddingName, personName, editedPerson);
+        return new AddressBookChange(Type.SET_PERSON, weddingName, personName, editedPerson, 0, 0, 0);
+    }
+
+    /**
+     * Returns the change of adding {@code table} to the wedding named {@code weddingName}.
+     * Adding a table that already has guests is a reset.
+     */
+    public static AddressBookChange addTable(String weddingName, Table table) {
+        requireAllNonNull(weddingName, table);
+        if (table.getSize() > 0) {
+            return RESET;
+        }
+        return new AddressBookChange(Type.ADD_TABLE, weddingName, null, null, table.getTableId(),
+                table.getCapacity(), 0);
+    }
+
+    /**
+     * Returns the change of deleting the table with ID {@code tableId} from the wedding named {@code weddingName}.
+     */
+    public static AddressBookChange deleteTable(String weddingName, int tableId) {
+        requireNonNull(weddingName);
+        return new AddressBookChange(Type.DELETE_TABLE, weddingName, null, null, tableId, 0, 0);
+    }
+
+    /**
+     * Returns the change of replacing the table with ID {@code tableId} in the wedding named {@code weddingName}
+     * with {@code editedTable}, at the same position in the wedding's table list.
+     * Both tables must be empty, so replacing a table with guests, or with a table that has guests, is a reset.
+     */
+    public static AddressBookChange setTable(String weddingName, int tableId, Table editedTable) {
+        requireAllNonNull(weddingName, editedTable);
+        if (editedTable.getSize() > 0) {
+            return RESET;
+        }
+        return new AddressBookChange(Type.SET_TABLE, weddingName, null, null, tableId, editedTable.getCapacity(),
+                editedTable.getTableId());
+    }
+
+    /**
+     * Returns the change of seating the guest named {@code personName} at the table with ID {@code tableId}
+     * in the wedding named {@code weddingName}.
+     */
+    public static AddressBookChange addPersonToTable(String weddingName, Name personName, int tableId) {
+        requireAllNonNull(weddingName, personName);
+        return new AddressBookChange(Type.ADD_PERSON_TO_TABLE, weddingName, personName, null, tableId, 0, 0);
+    }
+
+    /**
+     * Returns the change of removing the guest named {@code personName} from the table with ID {@code tableId}
+     * in the wedding named {@code weddingName}.
+     */
+    public static AddressBookChange deletePersonFromTable(String weddingName, Name personName, int tableId) {
+        requireAllNonNull(weddingName, personName);
+        return new AddressBookChange(Type.DELETE_PERSON_FROM_TABLE, weddingName, personName, null, tableId, 0, 0);
+    }
+
+    /**
+     * Returns the change of making the wedding named {@code weddingName} the current wedding.
+     */
+    public static AddressBookChange setCurrentWedding(String weddingName) {
+        requireNonNull(weddingName);
+        return new AddressBookChange(Type.SET_CURRENT_WEDDING, weddingName, null, null, 0, 0, 0);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the name of the wedding changed or made current, or null for a reset.
+     */
+    public String getWeddingName() {
+        return weddingName;
+    }
+
+    /**
+     * Returns the name of the guest deleted, replaced or seated, or null if no existing guest is involved.
+     */
+    public Name getPersonName() {
+        return personName;
+    }
+
+    /**
+     * Returns the guest added or the edited guest, or null if no new guest is involved.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    public int getTableId() {
+        return tableId;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the ID of the table that replaces the table with ID {@link #getTableId()}, or 0 if no table is replaced.
+     */
+    public int getEditedTableId() {
+        return editedTableId;
+    }
+
+    /**
+     * Returns true if this change cannot be applied on its own, and the whole address book has to be saved instead.
+     */
+    public boolean requiresSnapshot() {
+        return type == Type.RESET;
+    }
+
+    /**
+     * Makes this change to {@code addressBook}.
+     * The current wedding of the address book is left as it was, unless this change deletes it or sets it.
+     *
+     * @throws IllegalStateException if this change is a reset.
+     * @throws RuntimeException if the change does not apply to the data in {@code addressBook}.
+     */
+    public void applyTo(AddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        if (type == Type.RESET) {
+            throw new IllegalStateException("A reset cannot be applied on its own");
+        }
+        if (type == Type.ADD_WEDDING) {
+            addressBook.createWeddingWithName(weddingName);
+            return;
+        }
+
+        Wedding wedding = addressBook.getWeddingByName(weddingName);
+        if (wedding == null) {
+            throw new WeddingNotFoundException();
+        }
+        if (type == Type.DELETE_WEDDING) {
+            addressBook.deleteWedding(wedding);
+            return;
+        }
+        if (type == Type.SET_CURRENT_WEDDING) {
+            addressBook.setCurrentWedding(wedding);
+            return;
+        }
+
+        Wedding currentWedding = addressBook.hasCurrentWedding() ? addressBook.getCurrentWedding() : null;
+        addressBook.setCurrentWedding(wedding);
+        try {
+            applyToCurrentWedding(addressBook);
+        } finally {
+            if (currentWedding != null) {
+                addressBook.setCurrentWedding(currentWedding);
+            } else {
+                addressBook.clearCurrentWedding();
+            }
+        }
+    }
+
+    /**
+     * Returns the model event that describes this change.
+     */
+    public ModelEvent toEvent() {
+        switch (type) {
+        case ADD_WEDDING:
+            return new WeddingAdded(weddingName);
+        case DELETE_WEDDING:
+            return new WeddingDeleted(weddingName);
+        case ADD_PERSON:
+            return new GuestAdded(weddingName, person);
+        case DELETE_PERSON:
+            return new GuestDeleted(weddingName, personName);
+        case SET_PERSON:
+            return new GuestUpdated(weddingName, personName, person);
+        case ADD_TABLE:
+            return new TableAdded(weddingName, tableId, capacity);
+        case DELETE_TABLE:
+            return new TableDeleted(weddingName, tableId);
+        case SET_TABLE:
+            return new TableUpdated(weddingName, tableId, editedTableId, capacity);
+        case ADD_PERSON_TO_TABLE:
+            return new GuestSeated(weddingName, personName, tableId);
+        case DELETE_PERSON_FROM_TABLE:
+            return new GuestUnseated(weddingName, personName, tableId);
+        case SET_CURRENT_WEDDING:
+            return new CurrentWeddingSet(weddingName);
+        case RESET:
+            return new AddressBookReset();
+        default:
+            throw new AssertionError("Unhandled change type: " + type);
+        }
+    }
+
+    private void applyToCurrentWedding(AddressBook addressBook) {
+        switch (type) {
+        case ADD_PERSON:
+            addressBook.addPerson(person);
+            break;
+        case DELETE_PERSON:
+            addressBook.deletePerson(addressBook.findPersonByName(personName));
+            break;
+        case SET_PERSON:
+            addressBook.setPerson(addressBook.findPersonByName(personName), person);
+            break;
+        case ADD_TABLE:
+            addressBook.addTable(new Table(tableId, capacity));
+            break;
+        case DELETE_TABLE:
+            addressBook.deleteTableById(tableId);
+            break;
+        case SET_TABLE:
+            addressBook.setTable(addressBook.getTableById(tableId), new Table(editedTableId, capacity));
+            break;
+        case ADD_PERSON_TO_TABLE:
+            addressBook.addPersonToTableById(addressBook.findPersonByName(personName), tableId);
+            break;
+        case DELETE_PERSON_FROM_TABLE:
+            addressBook.deletePersonFromTable(addressBook.findPersonByName(personName), tableId);
+            break;
+        default:
+            throw new AssertionError("Unhandled change type: " + type);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookChange)) {
+            return false;
+        }
+
+        AddressBookChange otherChange = (AddressBookChange) other;
+        return type == otherChange.type
+                && Objects.equals(weddingName, otherChange.weddingName)
+                && Objects.equals(personName, otherChange.personName)
+                && Objects.equals(person, otherChange.person)
+                && tableId == otherChange.tableId
+                && capacity == otherChange.capacity
+                && editedTableId == otherChange.editedTableId;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, weddingName, personName, person, tableId, capacity, editedTableId);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("weddingName", weddingName)
+                .add("personName", personName)
+                .add("person", person)
+                .add("tableId", tableId)
+                .add("capacity", capacity)
+                .add("editedTableId", editedTableId)
+                .toString();
+    }
+}
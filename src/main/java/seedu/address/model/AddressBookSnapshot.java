@@ -0,0 +1,120 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.exceptions.NoCurrentWeddingException;
+import seedu.address.model.person.Person;
+import seedu.address.model.table.Table;
+import seedu.address.model.wedding.Wedding;
+
+/**
+ * An address book as it was at one point in time, which never changes afterwards.
+ * <p>
+ * A snapshot holds its own copies of the weddings, so it can be read on any thread while the address book it was
+ * taken from keeps changing. Each snapshot is taken on top of the previous one, and shares the copies of the weddings
+ * that have not changed since then, so taking a snapshot copies only the weddings that changed.
+ * </p>
+ * <p>
+ * The weddings of a snapshot must not be changed by its readers.
+ * </p>
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final long version;
+    private final ObservableList<Wedding> weddings;
+    private final Wedding currentWedding;
+    /** The copies of the weddings in this snapshot, by the version of the wedding they were copied from. */
+    private final Map<Long, Wedding> weddingsByVersion = new HashMap<>();
+
+    private AddressBookSnapshot(long version, List<Wedding> weddings, Wedding currentWedding) {
+        this.version = version;
+        this.weddings = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(weddings));
+        this.currentWedding = currentWedding;
+        for (Wedding wedding : weddings) {
+            weddingsByVersion.put(wedding.getVersion(), wedding);
+        }
+    }
+
+    /**
+     * Returns a snapshot of {@code addressBook} as it is now, sharing the copies in {@code previous} of the weddings
+     * that have not changed since it was taken.
+     * Must be called on the thread that changes {@code addressBook}.
+     *
+     * @param previous The last snapshot taken of {@code addressBook}, or null if there is none.
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook addressBook, AddressBookSnapshot previous) {
+        requireNonNull(addressBook);
+
+        List<Wedding> weddings = new ArrayList<>();
+        Wedding currentWedding = null;
+        for (Wedding wedding : addressBook.getWeddingList()) {
+            Wedding copy = previous != null ? previous.weddingsByVersion.get(wedding.getVersion()) : null;
+            if (copy == null) {
+                copy = new Wedding(wedding);
+            }
+            weddings.add(copy);
+
+            if (addressBook.hasCurrentWedding() && addressBook.getCurrentWedding().isSameWedding(wedding)) {
+                currentWedding = copy;
+            }
+        }
+
+        return new AddressBookSnapshot(previous != null ? previous.version + 1 : 1, weddings, currentWedding);
+    }
+
+    /**
+     * Returns the number of this snapshot among the snapshots taken on top of each other, starting from 1.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return currentWedding != null
+                ? currentWedding.getUniquePersonList().asUnmodifiableObservableList()
+                : FXCollections.emptyObservableList();
+    }
+
+    @Override
+    public ObservableList<Table> getTableList() {
+        return currentWedding != null
+                ? currentWedding.getTableList().asUnmodifiableObservableList()
+                : FXCollections.emptyObservableList();
+    }
+
+    @Override
+    public ObservableList<Wedding> getWeddingList() {
+        return weddings;
+    }
+
+    @Override
+    public Wedding getCurrentWedding() {
+        if (currentWedding == null) {
+            throw new NoCurrentWeddingException();
+        }
+        return currentWedding;
+    }
+
+    @Override
+    public boolean hasCurrentWedding() {
+        return currentWedding != null;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", version)
+                .add("weddings", weddings)
+                .add("current wedding", currentWedding)
+                .toString();
+    }
+}
@@ -0,0 +1,171 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} whose elements are stored in fixed-size chunks that copies of the list share.
+ * <p>
+ * {@link #copy()} copies only the table of chunks, so copying a list of {@code n} elements takes time and memory
+ * proportional to {@code n / CHUNK_SIZE}. A chunk is shared by the list and its copies until one of them writes to
+ * it, which then copies that one chunk first. Changing one element of a list therefore copies at most one chunk,
+ * whether or not the list was copied before. Inserting or removing an element shifts the elements after it, as in an
+ * array list, and copies the shared chunks it writes to.
+ * </p>
+ * <p>
+ * A list and its copies must be changed and copied on the same thread, but a copy that is no longer changed can be
+ * read on any thread once it has been handed over, as writes to the list never touch the chunks it shares.
+ * </p>
+ *
+ * @param <E> the type of the elements in the list
+ */
+public class ChunkedObservableList<E> extends ModifiableObservableListBase<E> {
+
+    static final int CHUNK_SIZE = 64;
+    private static final int CHUNK_SHIFT = 6;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private Object[][] chunks = new Object[0][];
+    /** The chunks that no copy shares, which can be written to in place. */
+    private final BitSet ownedChunks = new BitSet();
+    private int size = 0;
+
+    /**
+     * Creates an empty list.
+     */
+    public ChunkedObservableList() {
+
+    }
+
+    private ChunkedObservableList(ChunkedObservableList<E> other) {
+        chunks = other.chunks.clone();
+        size = other.size;
+    }
+
+    /**
+     * Returns a copy of this list that shares its chunks with this list.
+     * Changes to either list afterwards are not seen by the other, and listeners are not copied. Copying marks the
+     * chunks of this list as shared, so it is a change to this list and must be made on the thread that changes it.
+     */
+    public ChunkedObservableList<E> copy() {
+        // Neither list may write to the shared chunks in place any more
+        ownedChunks.clear();
+        return new ChunkedObservableList<>(this);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) chunks[index >> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        Objects.checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        for (int i = size; i > index; i--) {
+            write(i, get(i - 1));
+        }
+        write(index, element);
+        size++;
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        E old = get(index);
+        write(index, element);
+        return old;
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        E old = get(index);
+        for (int i = index; i < size - 1; i++) {
+            write(i, get(i + 1));
+        }
+        write(size - 1, null);
+        size--;
+        return old;
+    }
+
+    /**
+     * Replaces all elements of this list with {@code elements}, in new chunks, and fires a single replace change.
+     */
+    @Override
+    public boolean setAll(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        List<E> removed = new ArrayList<>(this);
+        replaceElements(elements);
+        modCount++;
+
+        beginChange();
+        nextReplace(0, size, removed);
+        endChange();
+        return true;
+    }
+
+    /**
+     * Removes all elements of this list and fires a single remove change.
+     */
+    @Override
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+
+        List<E> removed = new ArrayList<>(this);
+        replaceElements(List.of());
+        modCount++;
+
+        beginChange();
+        nextRemove(0, removed);
+        endChange();
+    }
+
+    private void replaceElements(Collection<? extends E> elements) {
+        Object[] array = elements.toArray();
+        chunks = new Object[(array.length + CHUNK_MASK) >> CHUNK_SHIFT][];
+        ownedChunks.clear();
+        for (int c = 0; c < chunks.length; c++) {
+            chunks[c] = Arrays.copyOfRange(array, c << CHUNK_SHIFT, (c + 1) << CHUNK_SHIFT);
+            ownedChunks.set(c);
+        }
+        size = array.length;
+    }
+
+    private void ensureCapacity(int capacity) {
+        int chunkCount = (capacity + CHUNK_MASK) >> CHUNK_SHIFT;
+        if (chunkCount > chunks.length) {
+            chunks = Arrays.copyOf(chunks, Math.max(chunkCount, chunks.length * 2));
+        }
+    }
+
+    /**
+     * Stores {@code element} at {@code index}, first copying its chunk if the chunk is shared.
+     */
+    private void write(int index, Object element) {
+        int chunk = index >> CHUNK_SHIFT;
+        if (chunks[chunk] == null) {
+            chunks[chunk] = new Object[CHUNK_SIZE];
+            ownedChunks.set(chunk);
+        } else if (!ownedChunks.get(chunk)) {
+            chunks[chunk] = chunks[chunk].clone();
+            ownedChunks.set(chunk);
+        }
+        chunks[chunk][index & CHUNK_MASK] = element;
+    }
+}
@@ -1,12 +1,14 @@
 package seedu.address.model;
 
-import java.beans.PropertyChangeListener;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.event.ModelEvent;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.table.Table;
@@ -59,6 +61,13 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a snapshot of the AddressBook as it is now, which can be read on other threads while the AddressBook
+     * keeps changing. The same snapshot is returned until the AddressBook changes.
+     * Must be called on the thread that changes the AddressBook.
+     */
+    AddressBookSnapshot getAddressBookSnapshot();
+
     //=========== Person ==================================================================================
 
     /**
@@ -155,16 +164,74 @@ public interface Model {
     Wedding findWeddingByName(String weddingName);
 
     /**
-     * Adds a property change listener to listen for model events
-     * @param listener the listener to add
+     * Adds a listener that is given the model events of type {@code eventType} and of its subtypes, in order.
+     * Outside a batch, each event is given to the listener as soon as it happens. The events of a batch are given
+     * to the listener together, when the batch is committed.
      */
-    void addPropertyChangeListener(PropertyChangeListener listener);
+    <E extends ModelEvent> void addEventListener(Class<E> eventType, Consumer<List<E>> listener);
 
     /**
-     * Removes a property change listener
-     * @param listener the listener to remove
+     * Stops giving model events to {@code listener}.
      */
-    void removePropertyChangeListener(PropertyChangeListener listener);
+    void removeEventListener(Consumer<?> listener);
 
     boolean hasWeddingWithName(String weddingName);
+
+    /**
+     * Returns a count that increases whenever the address book data may have changed.
+     * Changing the current wedding or the user prefs does not change the address book data.
+     */
+    long getModificationCount();
+
+    /**
+     * Adds a listener that is notified of every change made to the address book data, in order.
+     */
+    void addAddressBookChangeListener(Consumer<AddressBookChange> listener);
+
+    /**
+     * Returns true if there is a change to the address book data that can be undone.
+     */
+    boolean canUndo();
+
+    /**
+     * Returns true if there is an undone change to the address book data that can be redone.
+     */
+    boolean canRedo();
+
+    /**
+     * Undoes the latest change to the address book data that has not been undone yet.
+     * All changes made in the same batch are undone together. Replacing all data with
+     * {@link #setAddressBook(ReadOnlyAddressBook)} cannot be undone, and neither can any change made before it.
+     *
+     * @throws IllegalStateException if there is no change to undo
+     */
+    void undo();
+
+    /**
+     * Redoes the change undone last, if no other change was made since then.
+     *
+     * @throws IllegalStateException if there is no change to redo
+     */
+    void redo();
+
+    /**
+     * Runs {@code operations} as a single batch.
+     * Listeners are notified once, after all operations have run, instead of once per change.
+     * The batch is committed even if {@code operations} throws.
+     */
+    void batch(Runnable operations);
+
+    /**
+     * Opens a batch. Until the matching {@link #commitBatch()}, the filtered lists keep showing their current
+     * contents and event listeners are not notified. Batches can be nested.
+     */
+    void beginBatch();
+
+    /**
+     * Closes the batch opened by the matching {@link #beginBatch()}.
+     * When the outermost batch is closed, listeners are notified of everything that changed during the batch.
+     *
+     * @throws IllegalStateException if no batch is open
+     */
+    void commitBatch();
 }
@@ -3,9 +3,10 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.beans.PropertyChangeListener;
-import java.beans.PropertyChangeSupport;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -14,14 +15,20 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.exceptions.NoCurrentWeddingException;
+import seedu.address.model.event.ModelEvent;
+import seedu.address.model.event.ModelEventBus;
+import seedu.address.model.event.WeddingSwitched;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.table.Table;
+import seedu.address.model.table.exceptions.DuplicateTableException;
 import seedu.address.model.table.exceptions.TableFullException;
 import seedu.address.model.table.exceptions.TableNotFoundException;
 import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.exceptions.DuplicateWeddingException;
+import seedu.address.model.wedding.exceptions.WeddingLoadingException;
 import seedu.address.model.wedding.exceptions.WeddingNotFoundException;
 
 /**
@@ -34,7 +41,22 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Table> filteredTables;
-    private final PropertyChangeSupport pcs = new PropertyChangeSupport(this);
+    private final ModelEventBus eventBus = new ModelEventBus();
+
+    /** Number of changes made to the address book data, including changes that failed part way. */
+    private long modificationCount = 0;
+    private final List<Consumer<AddressBookChange>> changeListeners = new ArrayList<>();
+    /** The last snapshot taken of the address book, or null if none was taken yet. */
+    private AddressBookSnapshot lastSnapshot;
+    /** The modification count when the last snapshot was taken. */
+    private long snapshotModificationCount;
+    private final UndoHistory undoHistory = new UndoHistory();
+
+    /** Number of batches currently open. Notifications are deferred while this is positive. */
+    private int batchDepth = 0;
+    /** Predicates set during the open batch, applied when it is committed. Null if no predicate was set. */
+    private Predicate<Person> pendingPersonPredicate;
+    private Predicate<Table> pendingTablePredicate;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -47,8 +69,8 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
 
-        this.filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        this.filteredTables = new FilteredList<>(this.addressBook.getTableList());
+        this.filteredPersons = new FilteredList<>(this.addressBook.getPersonList(), PREDICATE_SHOW_ALL_PERSONS);
+        this.filteredTables = new FilteredList<>(this.addressBook.getTableList(), PREDICATE_SHOW_ALL_TABLES);
     }
 
     /**
@@ -57,8 +79,8 @@ public class ModelManager implements Model {
     public ModelManager() {
         this.addressBook = new AddressBook();
         this.userPrefs = new UserPrefs();
-        this.filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        this.filteredTables = new FilteredList<>(this.addressBook.getTableList());
+        this.filteredPersons = new FilteredList<>(this.addressBook.getPersonList(), PREDICATE_SHOW_ALL_PERSONS);
+        this.filteredTables = new FilteredList<>(this.addressBook.getTableList(), PREDICATE_SHOW_ALL_TABLES);
     }
 
     // =========== UserPrefs
@@ -102,16 +124,12 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
-        Wedding oldWedding = null;
-        try {
-            oldWedding = this.addressBook.getCurrentWedding();
-        } catch (NoCurrentWeddingException e) {
-            // No wedding was set, pass
-        }
+        Wedding oldWedding = getCurrentWeddingOrNull();
 
-        this.addressBook.resetData(addressBook);
+        mutate(() -> batch(() -> this.addressBook.resetData(addressBook)));
+        recordChange(AddressBookChange.reset(), List.of());
 
-        pcs.firePropertyChange("currentWedding", oldWedding, "Not Set");
+        publishWeddingSwitch(oldWedding);
     }
 
     @Override
@@ -119,6 +137,26 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        if (lastSnapshot == null || snapshotModificationCount != modificationCount
+                || !hasSameCurrentWedding(lastSnapshot)) {
+            lastSnapshot = AddressBookSnapshot.of(addressBook, lastSnapshot);
+            snapshotModificationCount = modificationCount;
+        }
+        return lastSnapshot;
+    }
+
+    /**
+     * Returns true if {@code snapshot} has the same current wedding as the address book.
+     */
+    private boolean hasSameCurrentWedding(AddressBookSnapshot snapshot) {
+        if (!addressBook.hasCurrentWedding() || !snapshot.hasCurrentWedding()) {
+            return addressBook.hasCurrentWedding() == snapshot.hasCurrentWedding();
+        }
+        return addressBook.getCurrentWedding().isSameWedding(snapshot.getCurrentWedding());
+    }
+
     // =========== Filtered Person List Accessors
     // =============================================================
 
@@ -135,6 +173,10 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        if (batchDepth > 0) {
+            pendingPersonPredicate = predicate;
+            return;
+        }
         filteredPersons.setPredicate(predicate);
     }
 
@@ -146,6 +188,10 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredTableList(Predicate<Table> predicate) {
         requireNonNull(predicate);
+        if (batchDepth > 0) {
+            pendingTablePredicate = predicate;
+            return;
+        }
         filteredTables.setPredicate(predicate);
     }
 
@@ -160,19 +206,43 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
-        addressBook.deletePerson(target);
+        String weddingName = getCurrentWeddingName();
+        List<AddressBookChange> undoChanges = new ArrayList<>();
+        undoChanges.add(AddressBookChange.addPerson(weddingName, new Person(target, -1)));
+        if (target.isSeated()) {
+            undoChanges.add(AddressBookChange.addPersonToTable(weddingName, target.getName(), target.getTableId()));
+        }
+        addressBook.findPersonByName(target.getName());
+
+        mutate(() -> addressBook.deletePerson(target));
+        recordChange(AddressBookChange.deletePerson(weddingName, target.getName()), undoChanges);
     }
 
     @Override
     public void addPerson(Person person) {
-        addressBook.addPerson(person);
+        String weddingName = getCurrentWeddingName();
+        if (addressBook.hasPerson(person)) {
+            throw new DuplicatePersonException();
+        }
+
+        mutate(() -> addressBook.addPerson(person));
+        recordChange(AddressBookChange.addPerson(weddingName, person),
+                List.of(AddressBookChange.deletePerson(weddingName, person.getName())));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
-        addressBook.setPerson(target, editedPerson);
+        String weddingName = getCurrentWeddingName();
+        addressBook.findPersonByName(target.getName());
+        if (!target.isSamePerson(editedPerson) && addressBook.hasPerson(editedPerson)) {
+            throw new DuplicatePersonException();
+        }
+
+        mutate(() -> addressBook.setPerson(target, editedPerson));
+        recordChange(AddressBookChange.setPerson(weddingName, target.getName(), editedPerson),
+                List.of(AddressBookChange.setPerson(weddingName, editedPerson.getName(), target)));
     }
 
     @Override
@@ -189,23 +259,78 @@ public class ModelManager implements Model {
 
     @Override
     public void addTable(Table table) {
-        addressBook.addTable(table);
+        String weddingName = getCurrentWeddingName();
+        if (addressBook.hasTable(table.getTableId())) {
+            throw new DuplicateTableException();
+        }
+
+        mutate(() -> addressBook.addTable(table));
+        recordChange(AddressBookChange.addTable(weddingName, table),
+                List.of(AddressBookChange.deleteTable(weddingName, table.getTableId())));
     }
 
     @Override
     public void deleteTable(Table table) {
-        addressBook.deleteTable(table);
+        List<AddressBookChange> undoChanges = getChangesToRestore(getCurrentWeddingName(),
+                addressBook.getTableById(table.getTableId()));
+
+        mutate(() -> batch(() -> addressBook.deleteTable(table)));
+        recordChange(AddressBookChange.deleteTable(getCurrentWeddingName(), table.getTableId()), undoChanges);
     }
 
     @Override
     public void deleteTableById(int tableId) {
-        addressBook.deleteTableById(tableId);
+        List<AddressBookChange> undoChanges = getChangesToRestore(getCurrentWeddingName(),
+                addressBook.getTableById(tableId));
+
+        mutate(() -> batch(() -> addressBook.deleteTableById(tableId)));
+        recordChange(AddressBookChange.deleteTable(getCurrentWeddingName(), tableId), undoChanges);
     }
 
+    /**
+     * Replaces the table with the ID of {@code target} with {@code editedTable}, and seats the guests of
+     * {@code editedTable} at it.
+     * The guests of the old table are unseated, the emptied table is replaced in place so that it keeps its position
+     * in the table list, and the guests of {@code editedTable} are seated, each as a change that can be undone and
+     * saved on its own.
+     * All guests are resolved before anything is changed, so a guest that is not in the wedding leaves the table as
+     * it was.
+     */
     @Override
     public void setTable(Table target, Table editedTable) {
         requireAllNonNull(target, editedTable);
-        addressBook.setTable(target, editedTable);
+        Table table = addressBook.getTableById(target.getTableId());
+        int tableId = table.getTableId();
+        int editedTableId = editedTable.getTableId();
+        if (tableId != editedTableId && addressBook.hasTable(editedTableId)) {
+            throw new DuplicateTableException();
+        }
+        if (editedTable.getSize() > editedTable.getCapacity()) {
+            throw new TableFullException();
+        }
+        List<Name> guestNames = new ArrayList<>();
+        for (Person guest : editedTable.getAllPersons()) {
+            guestNames.add(addressBook.findPersonByName(guest.getName()).getName());
+        }
+        List<Name> oldGuestNames = new ArrayList<>();
+        for (Person guest : table.getAllPersons()) {
+            oldGuestNames.add(guest.getName());
+        }
+
+        String weddingName = getCurrentWeddingName();
+        Table emptyTable = new Table(editedTableId, editedTable.getCapacity());
+        batch(() -> {
+            for (Name name : oldGuestNames) {
+                deletePersonFromTable(addressBook.findPersonByName(name), table);
+            }
+            mutate(() -> addressBook.setTable(table, emptyTable));
+            recordChange(AddressBookChange.setTable(weddingName, tableId, emptyTable),
+                    List.of(AddressBookChange.setTable(weddingName, editedTableId,
+                            new Table(tableId, table.getCapacity()))));
+            for (Name name : guestNames) {
+                addPersonToTable(addressBook.findPersonByName(name), emptyTable);
+            }
+        });
     }
 
     @Override
@@ -215,37 +340,73 @@ public class ModelManager implements Model {
 
     @Override
     public void addPersonToTable(Person p, Table table) {
-        addressBook.addPersonToTable(p, table);
+        String weddingName = getCurrentWeddingName();
+        checkCanSeat(p, addressBook.getTableById(table.getTableId()));
+
+        mutate(() -> addressBook.addPersonToTable(p, table));
+        recordChange(AddressBookChange.addPersonToTable(weddingName, p.getName(), table.getTableId()),
+                getChangesToUnseat(p, table.getTableId()));
     }
 
     @Override
     public void addPersonToTableById(Person p, int tableId) throws CommandException {
+        String weddingName = getCurrentWeddingName();
         try {
-            addressBook.addPersonToTableById(p, tableId);
+            checkCanSeat(p, addressBook.getTableById(tableId));
         } catch (TableNotFoundException e) {
             throw new CommandException("Table with ID " + tableId + " does not exist.");
         } catch (TableFullException e) {
             throw new CommandException("Table with ID " + tableId + " is full.");
         }
+
+        mutate(() -> addressBook.addPersonToTableById(p, tableId));
+        recordChange(AddressBookChange.addPersonToTable(weddingName, p.getName(), tableId),
+                getChangesToUnseat(p, tableId));
+    }
+
+    /**
+     * Checks that {@code person} is a guest of the current wedding, and that there is a seat for them at
+     * {@code table}, so that seating them there cannot fail part way.
+     *
+     * @throws PersonNotFoundException if {@code person} is not a guest of the current wedding.
+     * @throws TableFullException if {@code table} is full and {@code person} is not already seated at it.
+     */
+    private void checkCanSeat(Person person, Table table) {
+        addressBook.findPersonByName(person.getName());
+        if (table.getSize() >= table.getCapacity() && !table.hasPersonByName(person.getName())) {
+            throw new TableFullException();
+        }
     }
 
     @Override
     public void deletePersonFromTable(Person p, Table table) {
-        addressBook.deletePersonFromTable(p, table);
+        String weddingName = getCurrentWeddingName();
+        addressBook.findPersonByName(p.getName());
+        addressBook.getTableById(table.getTableId()).findPerson(p);
+
+        mutate(() -> addressBook.deletePersonFromTable(p, table));
+        recordChange(AddressBookChange.deletePersonFromTable(weddingName, p.getName(), table.getTableId()),
+                List.of(AddressBookChange.addPersonToTable(weddingName, p.getName(), table.getTableId())));
     }
 
     @Override
     public void deletePersonFromTableById(Person person, int tableId) throws CommandException {
+        String weddingName = getCurrentWeddingName();
+        Table table;
         try {
-            Table table = findTableById(tableId);
+            table = findTableById(tableId);
+            addressBook.findPersonByName(person.getName());
             table.findPerson(person); // throws PersonNotFoundException if not in table
-            addressBook.deletePersonFromTable(person, table);
         } catch (TableNotFoundException e) {
             throw new CommandException(String.format("Table with ID %d does not exist.", tableId));
         } catch (PersonNotFoundException e) {
             throw new CommandException(String.format("Person '%s' is not assigned to Table %d.",
                     person.getName().fullName, tableId));
         }
+
+        mutate(() -> addressBook.deletePersonFromTable(person, table));
+        recordChange(AddressBookChange.deletePersonFromTable(weddingName, person.getName(), tableId),
+                List.of(AddressBookChange.addPersonToTable(weddingName, person.getName(), tableId)));
     }
 
     @Override
@@ -270,24 +431,47 @@ public class ModelManager implements Model {
         // throw new IllegalStateException("A wedding already exists. Cannot create
         // another.");
         // }
-        addressBook.addWedding(wedding);
+        if (hasWeddingWithName(wedding.getName())) {
+            throw new DuplicateWeddingException();
+        }
+
+        mutate(() -> addressBook.addWedding(wedding));
+        recordChange(AddressBookChange.addWedding(wedding),
+                List.of(AddressBookChange.deleteWedding(wedding.getName())));
     }
 
     @Override
     public void deleteCurrentWedding() {
-        addressBook.deleteCurrentWedding();
+        String weddingName = getCurrentWeddingName();
+        List<AddressBookChange> undoChanges = getChangesToRestore(addressBook.getCurrentWedding());
+
+        Wedding oldWedding = getCurrentWeddingOrNull();
+        mutate(addressBook::deleteCurrentWedding);
+        recordChange(AddressBookChange.deleteWedding(weddingName), undoChanges);
+        publishWeddingSwitch(oldWedding);
     }
 
     @Override
     public void deleteWedding(Wedding wedding) {
-        addressBook.deleteWedding(wedding);
+        if (!addressBook.hasWedding(wedding)) {
+            throw new WeddingNotFoundException();
+        }
+        List<AddressBookChange> undoChanges = getChangesToRestore(wedding);
+
+        Wedding oldWedding = getCurrentWeddingOrNull();
+        mutate(() -> addressBook.deleteWedding(wedding));
+        recordChange(AddressBookChange.deleteWedding(wedding.getName()), undoChanges);
+        publishWeddingSwitch(oldWedding);
     }
 
     @Override
     public void deleteWeddingByName(String weddingName) {
-        Wedding oldWedding = addressBook.getCurrentWedding();
-        addressBook.deleteWeddingByName(weddingName);
-        pcs.firePropertyChange("currentWedding", oldWedding, "Not Set");
+        List<AddressBookChange> undoChanges = getChangesToRestore(addressBook.getWeddingByName(weddingName));
+
+        Wedding oldWedding = getCurrentWeddingOrNull();
+        mutate(() -> addressBook.deleteWeddingByName(weddingName));
+        recordChange(AddressBookChange.deleteWedding(weddingName), undoChanges);
+        publishWeddingSwitch(oldWedding);
     }
 
     /**
@@ -306,14 +490,18 @@ public class ModelManager implements Model {
     @Override
     public void setCurrentWedding(Wedding wedding) {
         requireNonNull(wedding);
-        try {
-            Wedding oldWedding = addressBook.getCurrentWedding();
-            addressBook.setCurrentWedding(wedding);
-            pcs.firePropertyChange("currentWedding", oldWedding, wedding);
-        } catch (NoCurrentWeddingException ncwe) {
-            addressBook.setCurrentWedding(wedding);
-            pcs.firePropertyChange("currentWedding", null, wedding);
+        if (!addressBook.hasWedding(wedding)) {
+            throw new WeddingNotFoundException();
+        }
+        Wedding oldWedding = getCurrentWeddingOrNull();
+        if (wedding == oldWedding) {
+            return;
         }
+
+        mutate(() -> addressBook.setCurrentWedding(wedding));
+        // Counted and saved like other changes, but not undone, so undo and redo only change the weddings' data
+        notifyChangeListeners(AddressBookChange.setCurrentWedding(wedding.getName()));
+        publishWeddingSwitch(oldWedding);
     }
 
     @Override
@@ -324,13 +512,14 @@ public class ModelManager implements Model {
         setCurrentWedding(weddingWithName);
     }
 
-    public void addPropertyChangeListener(PropertyChangeListener listener) {
-        this.pcs.addPropertyChangeListener(listener);
+    @Override
+    public <E extends ModelEvent> void addEventListener(Class<E> eventType, Consumer<List<E>> listener) {
+        eventBus.addListener(eventType, listener);
     }
 
     @Override
-    public void removePropertyChangeListener(PropertyChangeListener listener) {
-        this.pcs.removePropertyChangeListener(listener);
+    public void removeEventListener(Consumer<?> listener) {
+        eventBus.removeListener(listener);
     }
 
     @Override
@@ -343,6 +532,238 @@ public class ModelManager implements Model {
         }
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    @Override
+    public void addAddressBookChangeListener(Consumer<AddressBookChange> listener) {
+        requireNonNull(listener);
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Runs {@code mutation}, which changes the address book data after the checks it needs have passed.
+     * If it fails anyway, it may have changed the data part way, so a reset is recorded before the failure is
+     * rethrown.
+     */
+    private void mutate(Runnable mutation) {
+        try {
+            mutation.run();
+        } catch (RuntimeException e) {
+            recordChange(AddressBookChange.reset(), null);
+            throw e;
+        }
+    }
+
+    /**
+     * Notifies change listeners of {@code change}, just made to the address book data, and records it in the undo
+     * history.
+     * Outside a batch, the change is a step of its own in the undo history. Otherwise, it is part of the step that
+     * ends when the batch is committed.
+     *
+     * @param undoChanges The changes that undo {@code change}, in the order they are to be made, or null if it
+     *     cannot be undone.
+     */
+    private void recordChange(AddressBookChange change, List<AddressBookChange> undoChanges) {
+        notifyChangeListeners(change);
+        if (change.requiresSnapshot() || undoChanges == null) {
+            // The changes that undo earlier steps may no longer apply after this change
+            undoHistory.clear();
+            return;
+        }
+
+        undoHistory.record(change, undoChanges);
+        if (batchDepth == 0) {
+            undoHistory.commitStep();
+        }
+    }
+
+    /**
+     * Counts {@code change}, just made to the address book data, notifies change listeners of it, and publishes the
+     * event it describes.
+     */
+    private void notifyChangeListeners(AddressBookChange change) {
+        modificationCount++;
+        for (Consumer<AddressBookChange> listener : changeListeners) {
+            listener.accept(change);
+        }
+        eventBus.publish(change.toEvent());
+    }
+
+    /**
+     * Returns the changes that seat {@code person} where they were before being seated at the table with ID
+     * {@code tableId}.
+     */
+    private List<AddressBookChange> getChangesToUnseat(Person person, int tableId) {
+        if (person.isSeated()) {
+            return List.of(AddressBookChange.addPersonToTable(getCurrentWeddingName(), person.getName(),
+                    person.getTableId()));
+        }
+        return List.of(AddressBookChange.deletePersonFromTable(getCurrentWeddingName(), person.getName(), tableId));
+    }
+
+    /**
+     * Returns the changes that add {@code table} back to the wedding named {@code weddingName} after it is deleted,
+     * and seat its guests at it again.
+     */
+    private static List<AddressBookChange> getChangesToRestore(String weddingName, Table table) {
+        List<AddressBookChange> changes = new ArrayList<>();
+        changes.add(AddressBookChange.addTable(weddingName, new Table(table.getTableId(), table.getCapacity())));
+        for (Person person : table.getAllPersons()) {
+            changes.add(AddressBookChange.addPersonToTable(weddingName, person.getName(), table.getTableId()));
+        }
+        return changes;
+    }
+
+    /**
+     * Returns the changes that add {@code wedding} back after it is deleted, with all its tables and guests,
+     * or null if its tables and guests could not be read from storage.
+     */
+    private static List<AddressBookChange> getChangesToRestore(Wedding wedding) {
+        try {
+            wedding.load();
+        } catch (WeddingLoadingException e) {
+            logger.warning("Deleting wedding " + wedding.getName() + " cannot be undone: " + e.getMessage());
+            return null;
+        }
+
+        String weddingName = wedding.getName();
+        List<AddressBookChange> changes = new ArrayList<>();
+        changes.add(AddressBookChange.addWedding(new Wedding(weddingName)));
+        for (Table table : wedding.getTableList().asUnmodifiableObservableList()) {
+            changes.add(AddressBookChange.addTable(weddingName, new Table(table.getTableId(), table.getCapacity())));
+        }
+        for (Person person : wedding.getUniquePersonList().asUnmodifiableObservableList()) {
+            changes.add(AddressBookChange.addPerson(weddingName, new Person(person, -1)));
+        }
+        for (Table table : wedding.getTableList().asUnmodifiableObservableList()) {
+            for (Person person : table.getAllPersons()) {
+                changes.add(AddressBookChange.addPersonToTable(weddingName, person.getName(), table.getTableId()));
+            }
+        }
+        return changes;
+    }
+
+    private String getCurrentWeddingName() {
+        return addressBook.getCurrentWedding().getName();
+    }
+
+    private Wedding getCurrentWeddingOrNull() {
+        return addressBook.hasCurrentWedding() ? addressBook.getCurrentWedding() : null;
+    }
+
+    // =========== Undo
+    // ================================================================================
+
+    @Override
+    public boolean canUndo() {
+        return undoHistory.canUndo();
+    }
+
+    @Override
+    public boolean canRedo() {
+        return undoHistory.canRedo();
+    }
+
+    @Override
+    public void undo() {
+        applyChanges(undoHistory.undo());
+    }
+
+    @Override
+    public void redo() {
+        applyChanges(undoHistory.redo());
+    }
+
+    /**
+     * Makes {@code changes} to the address book in one batch, and notifies change listeners of each of them.
+     * The changes are not recorded in the undo history.
+     */
+    private void applyChanges(List<AddressBookChange> changes) {
+        Wedding oldWedding = getCurrentWeddingOrNull();
+        try {
+            batch(() -> {
+                for (AddressBookChange change : changes) {
+                    mutate(() -> change.applyTo(addressBook));
+                    notifyChangeListeners(change);
+                    if (change.requiresSnapshot()) {
+                        undoHistory.clear();
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            // The data no longer matches the history, so no other step can be undone or redone
+            undoHistory.clear();
+            throw e;
+        }
+
+        publishWeddingSwitch(oldWedding);
+    }
+
+    // =========== Batches
+    // ================================================================================
+
+    @Override
+    public void batch(Runnable operations) {
+        requireNonNull(operations);
+        beginBatch();
+        try {
+            operations.run();
+        } finally {
+            commitBatch();
+        }
+    }
+
+    @Override
+    public void beginBatch() {
+        if (batchDepth == 0) {
+            addressBook.deferListChanges();
+            eventBus.holdEvents();
+        }
+        batchDepth++;
+    }
+
+    @Override
+    public void commitBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("No batch to commit.");
+        }
+
+        batchDepth--;
+        if (batchDepth > 0) {
+            return;
+        }
+
+        if (pendingPersonPredicate != null && pendingPersonPredicate != filteredPersons.getPredicate()) {
+            filteredPersons.setPredicate(pendingPersonPredicate);
+        }
+        if (pendingTablePredicate != null && pendingTablePredicate != filteredTables.getPredicate()) {
+            filteredTables.setPredicate(pendingTablePredicate);
+        }
+        pendingPersonPredicate = null;
+        pendingTablePredicate = null;
+        undoHistory.commitStep();
+        addressBook.flushListChanges();
+
+        eventBus.releaseEvents();
+    }
+
+    /**
+     * Publishes a {@code WeddingSwitched} event if the current wedding is no longer {@code oldWedding}.
+     *
+     * @param oldWedding The wedding that was current before, or null if there was none.
+     */
+    private void publishWeddingSwitch(Wedding oldWedding) {
+        Wedding newWedding = getCurrentWeddingOrNull();
+        if (newWedding == oldWedding) {
+            return;
+        }
+        eventBus.publish(new WeddingSwitched(oldWedding != null ? oldWedding.getName() : null,
+                newWedding != null ? newWedding.getName() : null));
+    }
+
     // =========== Other Utils
     // ================================================================================
 
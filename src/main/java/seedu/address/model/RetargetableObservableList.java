@@ -0,0 +1,188 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * A read-only, live view of another {@code ObservableList} that can be pointed at a different list at any time.
+ * Changes to the current source list are forwarded to listeners of this view, and switching to another source list
+ * fires a single replace change covering the whole view.
+ * Used to expose the lists of the current wedding without copying them.
+ * <p>
+ * Change notifications can also be deferred with {@link #deferChanges()}. While changes are deferred, the view keeps
+ * showing the elements it had when deferring started, so listeners never see elements that disagree with the
+ * changes they were told about. {@link #flushChanges()} then fires at most one change for everything that happened.
+ * The elements are only copied when the source first changes or is replaced while changes are deferred, so deferring
+ * changes around operations that change nothing copies nothing.
+ * </p>
+ *
+ * @param <E> the type of the elements in the list
+ */
+public class RetargetableObservableList<E> extends ObservableListBase<E> {
+
+    private final ListChangeListener<E> sourceListener = this::forwardChange;
+    private ObservableList<E> source = FXCollections.emptyObservableList();
+
+    private boolean isDeferringChanges = false;
+    /**
+     * The elements shown while changes are deferred, or null if changes are not deferred or the source has not
+     * changed since deferring started, in which case the source itself is shown.
+     */
+    private List<E> frozenElements;
+
+    /**
+     * Points this view at {@code newSource}.
+     * Listeners of this view are notified that all old elements were replaced by the elements of {@code newSource}.
+     *
+     * @param newSource The list to view from now on
+     */
+    public void setSource(ObservableList<E> newSource) {
+        requireNonNull(newSource);
+        if (newSource == source) {
+            return;
+        }
+
+        ObservableList<E> oldSource = source;
+        oldSource.removeListener(sourceListener);
+        source = newSource;
+        newSource.addListener(sourceListener);
+
+        if (isDeferringChanges) {
+            if (frozenElements == null) {
+                frozenElements = new ArrayList<>(oldSource);
+            }
+            return;
+        }
+
+        beginChange();
+        nextReplace(0, newSource.size(), oldSource);
+        endChange();
+    }
+
+    /**
+     * Points this view at an empty list.
+     */
+    public void clearSource() {
+        setSource(FXCollections.emptyObservableList());
+    }
+
+    /**
+     * Stops notifying listeners of changes until {@link #flushChanges()} is called.
+     * Until then, this view keeps showing its current elements.
+     * Has no effect if changes are already deferred.
+     */
+    public void deferChanges() {
+        isDeferringChanges = true;
+    }
+
+    /**
+     * Resumes notifying listeners of changes.
+     * If the source list changed or was replaced while changes were deferred, a single replace change covering the
+     * whole view is fired.
+     */
+    public void flushChanges() {
+        isDeferringChanges = false;
+        if (frozenElements == null) {
+            return;
+        }
+
+        List<E> oldElements = frozenElements;
+        frozenElements = null;
+        beginChange();
+        nextReplace(0, source.size(), oldElements);
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return frozenElements != null ? frozenElements.get(index) : source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return frozenElements != null ? frozenElements.size() : source.size();
+    }
+
+    /**
+     * Re-fires the given change of the source list as a change of this view,
+     * or keeps the elements from before the change if it is the first change since changes were deferred.
+     */
+    private void forwardChange(ListChangeListener.Change<? extends E> change) {
+        if (isDeferringChanges) {
+            if (frozenElements == null) {
+                frozenElements = getElementsBefore(change);
+            }
+            return;
+        }
+
+        beginChange();
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated()) {
+                int[] permutation = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    permutation[i - from] = change.getPermutation(i);
+                }
+                nextPermutation(from, to, permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < to; i++) {
+                    nextUpdate(i);
+                }
+            } else if (change.wasReplaced()) {
+                nextReplace(from, to, change.getRemoved());
+            } else if (change.wasRemoved()) {
+                nextRemove(from, change.getRemoved());
+            } else if (change.wasAdded()) {
+                nextAdd(from, to);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Returns the elements of the source list as they were before {@code change}, by undoing the parts of the change
+     * on a copy of the list from the last part to the first.
+     */
+    private static <E> List<E> getElementsBefore(ListChangeListener.Change<? extends E> change) {
+        List<Runnable> undoSteps = new ArrayList<>();
+        List<E> elements = new ArrayList<>(change.getList());
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated()) {
+                // The element at position i before the change is at position getPermutation(i) after it
+                int[] permutation = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    permutation[i - from] = change.getPermutation(i);
+                }
+                undoSteps.add(() -> {
+                    List<E> permuted = new ArrayList<>(elements.subList(from, to));
+                    for (int i = from; i < to; i++) {
+                        elements.set(i, permuted.get(permutation[i - from] - from));
+                    }
+                });
+            } else if (!change.wasUpdated()) {
+                int addedSize = change.getAddedSize();
+                List<E> removed = new ArrayList<>(change.getRemoved());
+                undoSteps.add(() -> {
+                    elements.subList(from, from + addedSize).clear();
+                    elements.addAll(from, removed);
+                });
+            }
+        }
+        change.reset();
+
+        for (int i = undoSteps.size() - 1; i >= 0; i--) {
+            undoSteps.get(i).run();
+        }
+        return elements;
+    }
+}
@@ -0,0 +1,153 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * The changes made to an address book that can be undone and redone, one step at a time.
+ * <p>
+ * Each step keeps the changes that undo it and the changes that redo it, instead of a copy of the address book, so
+ * the memory a step takes is proportional to the size of the change. All changes recorded until the step is
+ * committed belong to the same step, and are undone or redone together. At most {@code capacity} steps are kept, and
+ * the oldest step is forgotten when a new step would exceed that.
+ * </p>
+ */
+class UndoHistory {
+
+    static final int DEFAULT_CAPACITY = 100;
+
+    private final int capacity;
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    /** The changes that undo the step being recorded, in the order they are to be made. */
+    private final Deque<AddressBookChange> pendingUndoChanges = new ArrayDeque<>();
+    /** The changes that redo the step being recorded, in the order they are to be made. */
+    private final List<AddressBookChange> pendingRedoChanges = new ArrayList<>();
+
+    /**
+     * Creates an empty history that keeps up to {@link #DEFAULT_CAPACITY} steps.
+     */
+    UndoHistory() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty history that keeps up to {@code capacity} steps.
+     *
+     * @throws IllegalArgumentException if {@code capacity} is not positive.
+     */
+    UndoHistory(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds {@code change} to the step being recorded.
+     *
+     * @param undoChanges The changes that undo {@code change}, in the order they are to be made.
+     */
+    void record(AddressBookChange change, List<AddressBookChange> undoChanges) {
+        requireNonNull(change);
+        requireNonNull(undoChanges);
+
+        pendingRedoChanges.add(change);
+        // Later changes are undone first
+        for (int i = undoChanges.size() - 1; i >= 0; i--) {
+            pendingUndoChanges.addFirst(undoChanges.get(i));
+        }
+    }
+
+    /**
+     * Ends the step being recorded, so that it can be undone, and forgets the steps that could be redone.
+     * Does nothing if no change was recorded since the last step ended.
+     */
+    void commitStep() {
+        if (pendingRedoChanges.isEmpty()) {
+            return;
+        }
+
+        undoSteps.push(new Step(new ArrayList<>(pendingUndoChanges), new ArrayList<>(pendingRedoChanges)));
+        pendingUndoChanges.clear();
+        pendingRedoChanges.clear();
+        if (undoSteps.size() > capacity) {
+            undoSteps.removeLast();
+        }
+        redoSteps.clear();
+    }
+
+    /**
+     * Returns true if there is a step to undo.
+     */
+    boolean canUndo() {
+        return !undoSteps.isEmpty() || !pendingRedoChanges.isEmpty();
+    }
+
+    /**
+     * Returns true if there is a step to redo.
+     */
+    boolean canRedo() {
+        return !redoSteps.isEmpty() && pendingRedoChanges.isEmpty();
+    }
+
+    /**
+     * Ends the step being recorded, and returns the changes that undo the latest step, in the order they are to be
+     * made. The step can then be redone.
+     *
+     * @throws IllegalStateException if there is no step to undo.
+     */
+    List<AddressBookChange> undo() {
+        commitStep();
+        if (undoSteps.isEmpty()) {
+            throw new IllegalStateException("No step to undo.");
+        }
+
+        Step step = undoSteps.pop();
+        redoSteps.push(step);
+        return step.undoChanges;
+    }
+
+    /**
+     * Returns the changes that redo the step undone last, in the order they are to be made.
+     * The step can then be undone again.
+     *
+     * @throws IllegalStateException if there is no step to redo.
+     */
+    List<AddressBookChange> redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("No step to redo.");
+        }
+
+        Step step = redoSteps.pop();
+        undoSteps.push(step);
+        return step.redoChanges;
+    }
+
+    /**
+     * Forgets all steps, including the one being recorded.
+     */
+    void clear() {
+        undoSteps.clear();
+        redoSteps.clear();
+        pendingUndoChanges.clear();
+        pendingRedoChanges.clear();
+    }
+
+    /**
+     * The changes that undo and redo one step.
+     */
+    private static class Step {
+        private final List<AddressBookChange> undoChanges;
+        private final List<AddressBookChange> redoChanges;
+
+        Step(List<AddressBookChange> undoChanges, List<AddressBookChange> redoChanges) {
+            this.undoChanges = undoChanges;
+            this.redoChanges = redoChanges;
+        }
+    }
+}
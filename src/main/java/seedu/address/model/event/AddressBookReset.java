@@ -0,0 +1,26 @@
+package seedu.address.model.event;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The address book data changed in a way that is not described by other events, such as all data being replaced.
+ * Listeners that keep anything derived from the data have to read it again.
+ */
+public class AddressBookReset extends ModelEvent {
+
+    @Override
+    public boolean equals(Object other) {
+        // instanceof handles nulls
+        return other instanceof AddressBookReset;
+    }
+
+    @Override
+    public int hashCode() {
+        return AddressBookReset.class.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).toString();
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.model.event;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Another wedding was made the current wedding.
+ */
+public class CurrentWeddingSet extends WeddingEvent {
+
+    /**
+     * Creates an event of the wedding named {@code weddingName} being made the current wedding.
+     */
+    public CurrentWeddingSet(String weddingName) {
+        super(weddingName);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CurrentWeddingSet)) {
+            return false;
+        }
+
+        CurrentWeddingSet otherEvent = (CurrentWeddingSet) other;
+        return getWeddingName().equals(otherEvent.getWeddingName());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getWeddingName());
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("weddingName", getWeddingName())
+                .toString();
+    }
+}
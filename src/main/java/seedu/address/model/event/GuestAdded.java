@@ -0,0 +1,61 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A guest was added to a wedding.
+ */
+public class GuestAdded extends WeddingEvent {
+
+    private final Person guest;
+
+    /**
+     * Creates an event of {@code guest} being added to the wedding named {@code weddingName}.
+     */
+    public GuestAdded(String weddingName, Person guest) {
+        super(weddingName);
+        requireNonNull(guest);
+        this.guest = guest;
+    }
+
+    /**
+     * Returns the guest added.
+     */
+    public Person getGuest() {
+        return guest;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof GuestAdded)) {
+            return false;
+        }
+
+        GuestAdded otherEvent = (GuestAdded) other;
+        return getWeddingName().equals(otherEvent.getWeddingName())
+                && guest.equals(otherEvent.guest);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getWeddingName(), guest);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("weddingName", getWeddingName())
+                .add("guest", guest)
+                .toString();
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Name;
+
+/**
+ * A guest was deleted from a wedding, and from the table they were seated at.
+ */
+public class GuestDeleted extends WeddingEvent {
+
+    private final Name guestName;
+
+    /**
+     * Creates an event of the guest named {@code guestName} being deleted from the wedding named {@code weddingName}.
+     */
+    public GuestDeleted(String weddingName, Name guestName) {
+        super(weddingName);
+        requireNonNull(guestName);
+        this.guestName = guestName;
+    }
+
+    public Name getGuestName() {
+        return guestName;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof GuestDeleted)) {
+            return false;
+        }
+
+        GuestDeleted otherEvent = (GuestDeleted) other;
+        return getWeddingName().equals(otherEvent.getWeddingName())
+                && guestName.equals(otherEvent.guestName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getWeddingName(), guestName);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("weddingName", getWeddingName())
+                .add("guestName", guestName)
+                .toString();
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Name;
+
+/**
+ * A guest was removed from the table they were seated at.
+ */
+public class GuestUnseated extends WeddingEvent {
+
+    private final Name guestName;
+    private final int tableId;
+
+    /**
+     * Creates an event of the guest named {@code guestName} being removed from the table with ID {@code tableId}
+     * in the wedding named {@code weddingName}.
+     */
+    public GuestUnseated(String weddingName, Name guestName, int tableId) {
+        super(weddingName);
+        requireNonNull(guestName);
+        this.guestName = guestName;
+        this.tableId = tableId;
+    }
+
+    public Name getGuestName() {
+        return guestName;
+    }
+
+    public int getTableId() {
+        return tableId;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof GuestUnseated)) {
+            return false;
+        }
+
+        GuestUnseated otherEvent = (GuestUnseated) other;
+        return getWeddingName().equals(otherEvent.getWeddingName())
+                && guestName.equals(otherEvent.guestName)
+                && tableId == otherEvent.tableId;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getWeddingName(), guestName, tableId);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("weddingName", getWeddingName())
+                .add("guestName", guestName)
+                .add("tableId", tableId)
+                .toString();
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * A guest of a wedding was replaced with an edited guest, who is seated at the same table.
+ */
+public class GuestUpdated extends WeddingEvent {
+
+    private final Name guestName;
+    private final Person editedGuest;
+
+    /**
+     * Creates an event of the guest named {@code guestName} in the wedding named {@code weddingName} being replaced
+     * with {@code editedGuest}.
+     */
+    public GuestUpdated(String weddingName, Name guestName, Person editedGuest) {
+        super(weddingName);
+        requireNonNull(guestName);
+        requireNonNull(editedGuest);
+        this.guestName = guestName;
+        this.editedGuest = editedGuest;
+    }
+
+    /**
+     * Returns the name of the guest before the edit.
+     */
+    public Name getGuestName() {
+        return guestName;
+    }
+
+    public Person getEditedGuest() {
+        return editedGuest;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof GuestUpdated)) {
+            return false;
+        }
+
+        GuestUpdated otherEvent = (GuestUpdated) other;
+        return getWeddingName().equals(otherEvent.getWeddingName())
+                && guestName.equals(otherEvent.guestName)
+                && editedGuest.equals(otherEvent.editedGuest);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getWeddingName(), guestName, editedGuest);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("weddingName", getWeddingName())
+                .add("guestName", guestName)
+                .add("editedGuest", editedGuest)
+                .toString();
+    }
+}
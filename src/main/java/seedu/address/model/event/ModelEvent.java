@@ -0,0 +1,9 @@
+package seedu.address.model.event;
+
+/**
+ * Something that happened to the address book data of a model, or to which of its weddings is current.
+ * Listeners are registered with a {@link ModelEventBus} for the types of events they are interested in.
+ * Events are immutable.
+ */
+public abstract class ModelEvent {
+}
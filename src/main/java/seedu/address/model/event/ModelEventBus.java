@@ -0,0 +1,106 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Delivers model events to the listeners registered for their types.
+ * <p>
+ * A listener registered for a type of event is given the events of that type and of its subtypes, in the order they
+ * were published. While events are held, such as during a batch of changes, they are kept until they are released,
+ * and each listener is then called once with all the events of its type published in the meantime.
+ * </p>
+ */
+public class ModelEventBus {
+
+    private final List<Subscription<?>> subscriptions = new ArrayList<>();
+    private final List<ModelEvent> heldEvents = new ArrayList<>();
+    private boolean isHoldingEvents = false;
+
+    /**
+     * Registers {@code listener} to be given the events of type {@code eventType} and of its subtypes.
+     * A listener registered for {@code ModelEvent} is given all events.
+     */
+    public <E extends ModelEvent> void addListener(Class<E> eventType, Consumer<List<E>> listener) {
+        requireAllNonNull(eventType, listener);
+        subscriptions.add(new Subscription<>(eventType, listener));
+    }
+
+    /**
+     * Stops giving events to {@code listener}, for all the types it was registered for.
+     */
+    public void removeListener(Consumer<?> listener) {
+        subscriptions.removeIf(subscription -> subscription.listener == listener);
+    }
+
+    /**
+     * Gives {@code event} to the listeners registered for its type, or keeps it until the events are released if
+     * events are being held.
+     */
+    public void publish(ModelEvent event) {
+        requireNonNull(event);
+        if (isHoldingEvents) {
+            heldEvents.add(event);
+            return;
+        }
+        deliver(List.of(event));
+    }
+
+    /**
+     * Keeps the events published from now on until {@link #releaseEvents()} is called.
+     */
+    public void holdEvents() {
+        isHoldingEvents = true;
+    }
+
+    /**
+     * Stops holding events, and gives the events held to the listeners registered for their types.
+     */
+    public void releaseEvents() {
+        isHoldingEvents = false;
+        if (heldEvents.isEmpty()) {
+            return;
+        }
+
+        List<ModelEvent> events = new ArrayList<>(heldEvents);
+        heldEvents.clear();
+        deliver(events);
+    }
+
+    private void deliver(List<ModelEvent> events) {
+        // Listeners may add or remove listeners while being given events
+        for (Subscription<?> subscription : new ArrayList<>(subscriptions)) {
+            subscription.deliver(events);
+        }
+    }
+
+    /**
+     * A listener and the type of events it is given.
+     */
+    private static class Subscription<E extends ModelEvent> {
+        private final Class<E> eventType;
+        private final Consumer<List<E>> listener;
+
+        Subscription(Class<E> eventType, Consumer<List<E>> listener) {
+            this.eventType = eventType;
+            this.listener = listener;
+        }
+
+        void deliver(List<ModelEvent> events) {
+            List<E> matchingEvents = new ArrayList<>();
+            for (ModelEvent event : events) {
+                if (eventType.isInstance(event)) {
+                    matchingEvents.add(eventType.cast(event));
+                }
+            }
+            if (!matchingEvents.isEmpty()) {
+                listener.accept(Collections.unmodifiableList(matchingEvents));
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.model.event;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * An empty table was added to a wedding.
+ */
+public class TableAdded extends WeddingEvent {
+
+    private final int tableId;
+    private final int capacity;
+
+    /**
+     * Creates an event of an empty table with ID {@code tableId} and capacity {@code capacity} being added to the
+     * wedding named {@code weddingName}.
+     */
+    public TableAdded(String weddingName, int tableId, int capacity) {
+        super(weddingName);
+        this.tableId = tableId;
+        this.capacity = capacity;
+    }
+
+    public int getTableId() {
+        return tableId;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TableAdded)) {
+            return false;
+        }
+
+        TableAdded otherEvent = (TableAdded) other;
+        return getWeddingName().equals(otherEvent.getWeddingName())
+                && tableId == otherEvent.tableId
+                && capacity == otherEvent.capacity;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getWeddingName(), tableId, capacity);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("weddingName", getWeddingName())
+                .add("tableId", tableId)
+                .add("capacity", capacity)
+                .toString();
+    }
+}
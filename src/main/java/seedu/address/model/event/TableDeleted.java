@@ -0,0 +1,54 @@
+package seedu.address.model.event;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A table was deleted from a wedding. The guests seated at it are no longer seated at any table.
+ */
+public class TableDeleted extends WeddingEvent {
+
+    private final int tableId;
+
+    /**
+     * Creates an event of the table with ID {@code tableId} being deleted from the wedding named {@code weddingName}.
+     */
+    public TableDeleted(String weddingName, int tableId) {
+        super(weddingName);
+        this.tableId = tableId;
+    }
+
+    public int getTableId() {
+        return tableId;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TableDeleted)) {
+            return false;
+        }
+
+        TableDeleted otherEvent = (TableDeleted) other;
+        return getWeddingName().equals(otherEvent.getWeddingName())
+                && tableId == otherEvent.tableId;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getWeddingName(), tableId);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("weddingName", getWeddingName())
+                .add("tableId", tableId)
+                .toString();
+    }
+}
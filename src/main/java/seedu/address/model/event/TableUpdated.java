@@ -0,0 +1,74 @@
+package seedu.address.model.event;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * An empty table of a wedding was replaced with an edited empty table, at the same position in the table list.
+ */
+public class TableUpdated extends WeddingEvent {
+
+    private final int tableId;
+    private final int editedTableId;
+    private final int capacity;
+
+    /**
+     * Creates an event of the empty table with ID {@code tableId} in the wedding named {@code weddingName} being
+     * replaced with an empty table with ID {@code editedTableId} and capacity {@code capacity}.
+     */
+    public TableUpdated(String weddingName, int tableId, int editedTableId, int capacity) {
+        super(weddingName);
+        this.tableId = tableId;
+        this.editedTableId = editedTableId;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the ID of the table before the edit.
+     */
+    public int getTableId() {
+        return tableId;
+    }
+
+    public int getEditedTableId() {
+        return editedTableId;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TableUpdated)) {
+            return false;
+        }
+
+        TableUpdated otherEvent = (TableUpdated) other;
+        return getWeddingName().equals(otherEvent.getWeddingName())
+                && tableId == otherEvent.tableId
+                && editedTableId == otherEvent.editedTableId
+                && capacity == otherEvent.capacity;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getWeddingName(), tableId, editedTableId, capacity);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("weddingName", getWeddingName())
+                .add("tableId", tableId)
+                .add("editedTableId", editedTableId)
+                .add("capacity", capacity)
+                .toString();
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.model.event;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * An empty wedding was added.
+ */
+public class WeddingAdded extends WeddingEvent {
+
+    /**
+     * Creates an event of an empty wedding named {@code weddingName} being added.
+     */
+    public WeddingAdded(String weddingName) {
+        super(weddingName);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof WeddingAdded)) {
+            return false;
+        }
+
+        WeddingAdded otherEvent = (WeddingAdded) other;
+        return getWeddingName().equals(otherEvent.getWeddingName());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getWeddingName());
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("weddingName", getWeddingName())
+                .toString();
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.model.event;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A wedding was deleted, with all its guests and tables.
+ */
+public class WeddingDeleted extends WeddingEvent {
+
+    /**
+     * Creates an event of the wedding named {@code weddingName} being deleted.
+     */
+    public WeddingDeleted(String weddingName) {
+        super(weddingName);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof WeddingDeleted)) {
+            return false;
+        }
+
+        WeddingDeleted otherEvent = (WeddingDeleted) other;
+        return getWeddingName().equals(otherEvent.getWeddingName());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getWeddingName());
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("weddingName", getWeddingName())
+                .toString();
+    }
+}
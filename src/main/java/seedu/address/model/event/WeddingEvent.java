@@ -0,0 +1,21 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Something that happened to one wedding, which is not necessarily the current wedding.
+ * Weddings, guests and tables are referred to by name and ID, as in {@code AddressBookChange}.
+ */
+public abstract class WeddingEvent extends ModelEvent {
+
+    private final String weddingName;
+
+    protected WeddingEvent(String weddingName) {
+        requireNonNull(weddingName);
+        this.weddingName = weddingName;
+    }
+
+    public String getWeddingName() {
+        return weddingName;
+    }
+}
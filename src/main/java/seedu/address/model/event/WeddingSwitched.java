@@ -0,0 +1,66 @@
+package seedu.address.model.event;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The current wedding changed to another wedding, or to no wedding at all.
+ */
+public class WeddingSwitched extends ModelEvent {
+
+    private final String oldWeddingName;
+    private final String newWeddingName;
+
+    /**
+     * Creates an event of the current wedding changing from the wedding named {@code oldWeddingName} to the wedding
+     * named {@code newWeddingName}. Either name is null if there was or is no current wedding.
+     */
+    public WeddingSwitched(String oldWeddingName, String newWeddingName) {
+        this.oldWeddingName = oldWeddingName;
+        this.newWeddingName = newWeddingName;
+    }
+
+    /**
+     * Returns the name of the wedding that was current before, or null if there was none.
+     */
+    public String getOldWeddingName() {
+        return oldWeddingName;
+    }
+
+    /**
+     * Returns the name of the wedding that is current now, or null if there is none.
+     */
+    public String getNewWeddingName() {
+        return newWeddingName;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof WeddingSwitched)) {
+            return false;
+        }
+
+        WeddingSwitched otherEvent = (WeddingSwitched) other;
+        return Objects.equals(oldWeddingName, otherEvent.oldWeddingName)
+                && Objects.equals(newWeddingName, otherEvent.newWeddingName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(oldWeddingName, newWeddingName);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("oldWeddingName", oldWeddingName)
+                .add("newWeddingName", newWeddingName)
+                .toString();
+    }
+}
@@ -0,0 +1,151 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Collection;
+
+import seedu.address.model.person.DietaryRestriction.TypicalRestriction;
+import seedu.address.model.person.Rsvp.Status;
+
+/**
+ * Bitmap indexes of the guests in a {@code UniquePersonList} by dietary restriction and RSVP status.
+ * There is one bitmap per dietary restriction and one per RSVP status, and bit {@code i} of a bitmap is set if the
+ * person at position {@code i} of the list has that restriction or status. Filtering by these attributes then comes
+ * down to word-wise OR and AND operations on the bitmaps.
+ */
+class GuestAttributeIndex {
+
+    private final BitSet[] slotsByRestriction = newBitSets(TypicalRestriction.values().length);
+    private final BitSet[] slotsByStatus = newBitSets(Status.values().length);
+
+    /**
+     * Returns the positions of the persons whose dietary restriction is any of {@code restrictions} and whose RSVP
+     * status is any of {@code statuses}.
+     * An empty collection places no constraint on that attribute.
+     *
+     * @param restrictions The dietary restrictions to match
+     * @param statuses The RSVP statuses to match
+     * @param size The number of persons in the indexed list
+     * @return A new bitmap with the bits of the matching positions set
+     */
+    public BitSet select(Collection<TypicalRestriction> restrictions, Collection<Status> statuses, int size) {
+        requireNonNull(restrictions);
+        requireNonNull(statuses);
+
+        BitSet matches = new BitSet(size);
+        matches.set(0, size);
+
+        if (!restrictions.isEmpty()) {
+            BitSet anyRestriction = new BitSet(size);
+            for (TypicalRestriction restriction : restrictions) {
+                anyRestriction.or(slotsByRestriction[restriction.ordinal()]);
+            }
+            matches.and(anyRestriction);
+        }
+
+        if (!statuses.isEmpty()) {
+            BitSet anyStatus = new BitSet(size);
+            for (Status status : statuses) {
+                anyStatus.or(slotsByStatus[status.ordinal()]);
+            }
+            matches.and(anyStatus);
+        }
+
+        return matches;
+    }
+
+    /**
+     * Records that {@code person} is at position {@code slot}.
+     */
+    void add(int slot, Person person) {
+        setBits(person, slot, true);
+    }
+
+    /**
+     * Records that the person at position {@code slot} was removed,
+     * and that the persons after it have shifted down by one position.
+     */
+    void remove(int slot) {
+        for (BitSet bits : slotsByRestriction) {
+            removeBit(bits, slot);
+        }
+        for (BitSet bits : slotsByStatus) {
+            removeBit(bits, slot);
+        }
+    }
+
+    /**
+     * Records that {@code target}, at position {@code slot}, was replaced by {@code editedPerson}.
+     */
+    void replace(int slot, Person target, Person editedPerson) {
+        setBits(target, slot, false);
+        setBits(editedPerson, slot, true);
+    }
+
+    /**
+     * Replaces all positions in the index with those in {@code other}.
+     */
+    void copyFrom(GuestAttributeIndex other) {
+        copyBits(other.slotsByRestriction, slotsByRestriction);
+        copyBits(other.slotsByStatus, slotsByStatus);
+    }
+
+    /**
+     * Removes all positions from the index.
+     */
+    void clear() {
+        for (BitSet bits : slotsByRestriction) {
+            bits.clear();
+        }
+        for (BitSet bits : slotsByStatus) {
+            bits.clear();
+        }
+    }
+
+    /**
+     * Sets or clears bit {@code slot} in the bitmaps of the dietary restriction and RSVP status of {@code person}.
+     */
+    private void setBits(Person person, int slot, boolean value) {
+        TypicalRestriction restriction = person.getDietaryRestriction().getTypicalRestriction();
+        if (restriction != null) {
+            slotsByRestriction[restriction.ordinal()].set(slot, value);
+        }
+
+        Status status = person.getRsvp().getStatus();
+        if (status != null) {
+            slotsByStatus[status.ordinal()].set(slot, value);
+        }
+    }
+
+    /**
+     * Removes bit {@code slot} from {@code bits}, shifting the bits after it down by one position.
+     */
+    private static void removeBit(BitSet bits, int slot) {
+        int length = bits.length();
+        if (slot >= length) {
+            return;
+        }
+
+        BitSet tail = bits.get(slot + 1, length);
+        bits.clear(slot, length);
+        for (int i = tail.nextSetBit(0); i >= 0; i = tail.nextSetBit(i + 1)) {
+            bits.set(slot + i);
+        }
+    }
+
+    private static void copyBits(BitSet[] source, BitSet[] target) {
+        for (int i = 0; i < target.length; i++) {
+            target[i].clear();
+            target[i].or(source[i]);
+        }
+    }
+
+    private static BitSet[] newBitSets(int count) {
+        BitSet[] bitSets = new BitSet[count];
+        for (int i = 0; i < count; i++) {
+            bitSets[i] = new BitSet();
+        }
+        return bitSets;
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+import seedu.address.model.person.DietaryRestriction.TypicalRestriction;
+import seedu.address.model.person.Rsvp.Status;
+
+/**
+ * Running totals of the guests in a {@code UniquePersonList}, broken down by dietary restriction and RSVP status.
+ * The totals are updated as persons are added to and removed from the list, so reading them takes constant time
+ * regardless of the number of guests.
+ */
+public class GuestCounts {
+
+    private static final TypicalRestriction[] RESTRICTIONS = TypicalRestriction.values();
+    private static final Status[] STATUSES = Status.values();
+
+    private final int[] restrictionCounts = new int[RESTRICTIONS.length];
+    private final int[] rsvpCounts = new int[STATUSES.length];
+    private int total;
+
+    /**
+     * Returns the number of guests counted.
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the number of guests with the given dietary restriction.
+     */
+    public int getCount(TypicalRestriction restriction) {
+        requireNonNull(restriction);
+        return restrictionCounts[restriction.ordinal()];
+    }
+
+    /**
+     * Returns the number of guests with the given RSVP status.
+     */
+    public int getCount(Status status) {
+        requireNonNull(status);
+        return rsvpCounts[status.ordinal()];
+    }
+
+    /**
+     * Counts {@code person} in the totals.
+     */
+    void add(Person person) {
+        update(person, 1);
+    }
+
+    /**
+     * Stops counting {@code person} in the totals.
+     */
+    void remove(Person person) {
+        update(person, -1);
+    }
+
+    /**
+     * Replaces all totals with those of {@code other}.
+     */
+    void copyFrom(GuestCounts other) {
+        System.arraycopy(other.restrictionCounts, 0, restrictionCounts, 0, restrictionCounts.length);
+        System.arraycopy(other.rsvpCounts, 0, rsvpCounts, 0, rsvpCounts.length);
+        total = other.total;
+    }
+
+    /**
+     * Resets all totals to zero.
+     */
+    void clear() {
+        Arrays.fill(restrictionCounts, 0);
+        Arrays.fill(rsvpCounts, 0);
+        total = 0;
+    }
+
+    /**
+     * Adds {@code delta} to every total that {@code person} is counted in.
+     */
+    private void update(Person person, int delta) {
+        total += delta;
+
+        TypicalRestriction restriction = person.getDietaryRestriction().getTypicalRestriction();
+        if (restriction != null) {
+            restrictionCounts[restriction.ordinal()] += delta;
+        }
+
+        Status status = person.getRsvp().getStatus();
+        if (status != null) {
+            rsvpCounts[status.ordinal()] += delta;
+        }
+    }
+}
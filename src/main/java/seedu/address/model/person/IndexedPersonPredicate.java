@@ -0,0 +1,60 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests the persons of a {@code UniquePersonList} by looking up their positions in a bitmap selected from the
+ * list's indexes.
+ * The bitmap is selected again only after the list changes, so the predicate stays correct as persons are added,
+ * edited and removed, and testing a person of the list takes one name lookup and one bit test. Persons that are not
+ * in the list, such as the guests of another wedding after the current wedding is switched, are tested with the
+ * equivalent predicate instead.
+ */
+class IndexedPersonPredicate implements Predicate<Person> {
+
+    private final UniquePersonList persons;
+    private final Supplier<BitSet> selection;
+    private final Predicate<Person> predicate;
+
+    /** The positions of the matching persons, or null if they were not selected yet. */
+    private BitSet matches;
+    /** The version of {@code persons} when {@code matches} was selected. */
+    private long matchesVersion;
+
+    /**
+     * Creates a predicate that tests the persons of {@code persons} with the positions given by {@code selection}.
+     *
+     * @param predicate The predicate that is true for the persons at the positions given by {@code selection}.
+     */
+    IndexedPersonPredicate(UniquePersonList persons, Supplier<BitSet> selection, Predicate<Person> predicate) {
+        requireAllNonNull(persons, selection, predicate);
+        this.persons = persons;
+        this.selection = selection;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        int slot = persons.indexOf(person);
+        if (slot == -1) {
+            return predicate.test(person);
+        }
+
+        if (matches == null || matchesVersion != persons.getVersion()) {
+            matches = selection.get();
+            matchesVersion = persons.getVersion();
+        }
+        return matches.get(slot);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("predicate", predicate).toString();
+    }
+}
@@ -25,6 +25,10 @@ public class RsvpFilter implements Predicate<Person> {
         this.rsvpFilter = rsvpFilter;
     }
 
+    public Rsvp getRsvp() {
+        return rsvpFilter;
+    }
+
     @Override
     public boolean test(Person person) {
         return person.getRsvp().equals(rsvpFilter);
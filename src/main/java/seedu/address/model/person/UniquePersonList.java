@@ -3,13 +3,26 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.ChunkedObservableList;
 import seedu.address.model.UniqueList;
+import seedu.address.model.person.DietaryRestriction.TypicalRestriction;
+import seedu.address.model.person.Rsvp.Status;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -20,33 +33,72 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are additionally indexed by their case-folded name, so identity checks and lookups by name take constant
+ * time. The index maps each name to the person's position in the backing list and is kept in sync with every
+ * mutation of the list. Running totals and bitmap indexes by dietary restriction and RSVP status are maintained the
+ * same way, see {@link #getGuestCounts()} and {@link #findPersonsMatching(Collection, Collection)}, as is an inverted
+ * index from the case-folded words of each name to the persons with that word in their name, see
+ * {@link #findPersonsByNameKeywords(Collection)}. The case-folded names are also kept sorted for name completion, see
+ * {@link #findNamesWithPrefix(String, int)}.
+ *
+ * A copy of the list shares the chunks of its backing list, see {@link ChunkedObservableList}, and builds its name
+ * indexes only when they are first needed, so a copy that is only read in list order, such as a snapshot being saved,
+ * is cheap to take. The indexes are built while holding the copy's lock, so a copy that is no longer changed can be
+ * read by several threads at once.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person>, UniqueList<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Person> internalUnmodifiableList =
-        FXCollections.unmodifiableObservableList(internalList);
+    private final ChunkedObservableList<Person> internalList;
+    private final ObservableList<Person> internalUnmodifiableList;
+
+    /** Maps the case-folded name of each person to the person's position in {@code internalList}. */
+    private final Map<String, Integer> nameIndex = new HashMap<>();
+
+    /** Maps each case-folded word of a name to the case-folded names of the persons with that word in their name. */
+    private final Map<String, Set<String>> nameKeysByWord = new HashMap<>();
+
+    /** The case-folded names of all persons, in sorted order. */
+    private final NavigableSet<String> sortedNameKeys = new TreeSet<>();
+
+    private final GuestCounts guestCounts = new GuestCounts();
+    private final GuestAttributeIndex attributeIndex = new GuestAttributeIndex();
+
+    /**
+     * False while the name, word and sorted name indexes have not been built from the backing list.
+     * Set only once the indexes are built, so a thread that sees it set also sees the indexes.
+     */
+    private volatile boolean isNameIndexed = true;
+
+    /** Incremented before each change to the backing list, once the indexes describe the list after the change. */
+    private long version = 0;
 
     /**
      * Constructs an empty UniquePersonList.
      */
     public UniquePersonList() {
-
+        internalList = new ChunkedObservableList<>();
+        internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
     }
 
     /**
      * Constructs a UniquePersonList containing the persons in the given list.
-     * The persons are added as deep copies of the original persons.
+     * Persons are immutable, so the copy shares them, and the chunks holding them, with {@code other}. The bitmap
+     * indexes and running totals are copied as they are, and the name indexes are built when they are first needed.
+     * Must be called on the thread that changes {@code other}.
      *
      * @param other The UniquePersonList to copy from
      */
     public UniquePersonList(UniquePersonList other) {
-        for (Person p : other) {
-            add(new Person(p));
-        }
+        requireNonNull(other);
+        internalList = other.internalList.copy();
+        internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+        guestCounts.copyFrom(other.guestCounts);
+        attributeIndex.copyFrom(other.attributeIndex);
+        isNameIndexed = false;
     }
 
     /**
@@ -54,7 +106,8 @@ public class UniquePersonList implements Iterable<Person>, UniqueList<Person> {
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        ensureNameIndexed();
+        return nameIndex.containsKey(toKey(toCheck.getName()));
     }
 
     /**
@@ -66,6 +119,12 @@ public class UniquePersonList implements Iterable<Person>, UniqueList<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        nameIndex.put(toKey(toAdd.getName()), internalList.size());
+        sortedNameKeys.add(toKey(toAdd.getName()));
+        indexWords(toAdd.getName());
+        guestCounts.add(toAdd);
+        attributeIndex.add(internalList.size(), toAdd);
+        version++;
         internalList.add(toAdd);
     }
 
@@ -78,12 +137,24 @@ public class UniquePersonList implements Iterable<Person>, UniqueList<Person> {
      */
     public void delete(Person toRemove) {
         requireNonNull(toRemove);
+        ensureNameIndexed();
 
-        // Do a double check just in case
-        Person matchingPerson = this.findPersonByName(toRemove.getName());
-        if (!internalList.remove(matchingPerson)) {
+        Integer index = nameIndex.remove(toKey(toRemove.getName()));
+        if (index == null) {
             throw new PersonNotFoundException();
         }
+        sortedNameKeys.remove(toKey(toRemove.getName()));
+
+        Person removed = internalList.get(index);
+        unindexWords(removed.getName());
+        guestCounts.remove(removed);
+        attributeIndex.remove(index);
+        // Persons after the removed one shift down by one position
+        for (int i = index + 1; i < internalList.size(); i++) {
+            nameIndex.put(toKey(internalList.get(i).getName()), i - 1);
+        }
+        version++;
+        internalList.remove((int) index);
     }
 
     /**
@@ -105,18 +176,33 @@ public class UniquePersonList implements Iterable<Person>, UniqueList<Person> {
      */
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
+        ensureNameIndexed();
 
-        Person targetWithSameName = findPersonByName(target.getName());
-        int index = internalList.indexOf(targetWithSameName);
+        String targetKey = toKey(target.getName());
+        Integer index = nameIndex.get(targetKey);
 
-        if (index == -1) {
+        if (index == null) {
             throw new PersonNotFoundException();
         }
 
-        if (!targetWithSameName.isSamePerson(editedPerson) && contains(editedPerson)) {
+        String editedKey = toKey(editedPerson.getName());
+        if (!targetKey.equals(editedKey) && nameIndex.containsKey(editedKey)) {
             throw new DuplicatePersonException();
         }
 
+        nameIndex.remove(targetKey);
+        nameIndex.put(editedKey, index);
+        sortedNameKeys.remove(targetKey);
+        sortedNameKeys.add(editedKey);
+        Name targetName = internalList.get(index).getName();
+        if (!targetName.fullName.equals(editedPerson.getName().fullName)) {
+            unindexWords(targetName);
+            indexWords(editedPerson.getName());
+        }
+        guestCounts.remove(internalList.get(index));
+        guestCounts.add(editedPerson);
+        attributeIndex.replace(index, internalList.get(index), editedPerson);
+        version++;
         internalList.set(index, editedPerson);
     }
 
@@ -127,6 +213,9 @@ public class UniquePersonList implements Iterable<Person>, UniqueList<Person> {
      */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        rebuildIndex(replacement.internalList);
+        recount(replacement.internalList);
+        version++;
         internalList.setAll(replacement.internalList);
     }
 
@@ -139,9 +228,117 @@ public class UniquePersonList implements Iterable<Person>, UniqueList<Person> {
         if (!personsAreUnique(persons)) {
             throw new DuplicatePersonException();
         }
+        rebuildIndex(persons);
+        recount(persons);
+        version++;
         internalList.setAll(persons);
     }
 
+    /**
+     * Returns the running totals of the persons in this list by dietary restriction and RSVP status.
+     * The returned totals stay up to date as this list changes.
+     */
+    public GuestCounts getGuestCounts() {
+        return guestCounts;
+    }
+
+    /**
+     * Returns the persons whose dietary restriction is any of {@code restrictions} and whose RSVP status is any of
+     * {@code statuses}, in list order. An empty collection places no constraint on that attribute.
+     */
+    public List<Person> findPersonsMatching(Collection<TypicalRestriction> restrictions, Collection<Status> statuses) {
+        BitSet matches = attributeIndex.select(restrictions, statuses, internalList.size());
+        List<Person> persons = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            persons.add(internalList.get(i));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the persons with any of {@code keywords} as a whole word of their name, ignoring case, in list order.
+     * The persons are looked up in the word index, so names are not scanned.
+     */
+    public List<Person> findPersonsByNameKeywords(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        BitSet matches = selectByNameKeywords(keywords);
+        List<Person> persons = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            persons.add(internalList.get(i));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns a predicate that is true for the persons whose dietary restriction is any of {@code restrictions} and
+     * whose RSVP status is any of {@code statuses}. An empty collection places no constraint on that attribute.
+     * Persons of this list are tested against the bitmap indexes, which stay up to date as this list changes, and
+     * other persons are tested with {@code predicate}.
+     *
+     * @param predicate The predicate that is true for the same persons, tested on their attributes.
+     */
+    public Predicate<Person> getAttributePredicate(Collection<TypicalRestriction> restrictions,
+            Collection<Status> statuses, Predicate<Person> predicate) {
+        requireAllNonNull(restrictions, statuses);
+        return new IndexedPersonPredicate(this,
+                () -> attributeIndex.select(restrictions, statuses, internalList.size()), predicate);
+    }
+
+    /**
+     * Returns a predicate that is true for the persons with any of {@code keywords} as a whole word of their name,
+     * ignoring case. Persons of this list are tested against the word index, which stays up to date as this list
+     * changes, and other persons are tested with {@code predicate}.
+     *
+     * @param predicate The predicate that is true for the same persons, tested on their names.
+     */
+    public Predicate<Person> getNameKeywordsPredicate(Collection<String> keywords, Predicate<Person> predicate) {
+        requireAllNonNull(keywords);
+        return new IndexedPersonPredicate(this, () -> selectByNameKeywords(keywords), predicate);
+    }
+
+    /**
+     * Returns the names that start with {@code prefix}, ignoring case, in alphabetical order.
+     * At most {@code limit} names are returned, and only those names are visited.
+     */
+    public List<Name> findNamesWithPrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        ensureNameIndexed();
+        String keyPrefix = prefix.toLowerCase();
+        List<Name> names = new ArrayList<>();
+        for (String key : sortedNameKeys.tailSet(keyPrefix, true)) {
+            if (names.size() >= limit || !key.startsWith(keyPrefix)) {
+                break;
+            }
+            names.add(internalList.get(nameIndex.get(key)).getName());
+        }
+        return names;
+    }
+
+    /**
+     * Returns the number of persons whose dietary restriction is any of {@code restrictions} and whose RSVP status is
+     * any of {@code statuses}. An empty collection places no constraint on that attribute.
+     */
+    public int countPersonsMatching(Collection<TypicalRestriction> restrictions, Collection<Status> statuses) {
+        return attributeIndex.select(restrictions, statuses, internalList.size()).cardinality();
+    }
+
+    /**
+     * Returns the position of {@code person} in this list, or -1 if it is not in this list.
+     * Only the same instance is found, not an equal person.
+     */
+    int indexOf(Person person) {
+        ensureNameIndexed();
+        Integer index = nameIndex.get(toKey(person.getName()));
+        return index != null && internalList.get(index) == person ? index : -1;
+    }
+
+    /**
+     * Returns a number that changes whenever the persons in this list or their positions change.
+     */
+    long getVersion() {
+        return version;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -169,10 +366,12 @@ public class UniquePersonList implements Iterable<Person>, UniqueList<Person> {
      */
     public Person findPersonByName(Name name) throws PersonNotFoundException {
         requireNonNull(name);
-        return internalList.stream()
-            .filter(person -> person.getName().equals(name))
-            .findFirst()
-            .orElseThrow(PersonNotFoundException::new);
+        ensureNameIndexed();
+        Integer index = nameIndex.get(toKey(name));
+        if (index == null) {
+            throw new PersonNotFoundException();
+        }
+        return internalList.get(index);
     }
 
     /**
@@ -181,12 +380,9 @@ public class UniquePersonList implements Iterable<Person>, UniqueList<Person> {
      * @return boolean value representing if the person with the given name exists
      */
     public boolean hasPersonByName(Name name) {
-        try {
-            findPersonByName(name);
-            return true;
-        } catch (PersonNotFoundException pnfe) {
-            return false;
-        }
+        requireNonNull(name);
+        ensureNameIndexed();
+        return nameIndex.containsKey(toKey(name));
     }
 
 
@@ -246,6 +442,13 @@ public class UniquePersonList implements Iterable<Person>, UniqueList<Person> {
 
     @Override
     public void clear() {
+        this.nameIndex.clear();
+        this.nameKeysByWord.clear();
+        this.sortedNameKeys.clear();
+        this.isNameIndexed = true;
+        this.guestCounts.clear();
+        this.attributeIndex.clear();
+        version++;
         this.internalList.clear();
         this.internalUnmodifiableList.clear();
     }
@@ -263,13 +466,103 @@ public class UniquePersonList implements Iterable<Person>, UniqueList<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<String> seenNames = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenNames.add(toKey(person.getName()))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Replaces the name index and the word index with ones built from {@code persons}, in list order.
+     */
+    private void rebuildIndex(List<Person> persons) {
+        nameIndex.clear();
+        nameKeysByWord.clear();
+        sortedNameKeys.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            nameIndex.put(toKey(persons.get(i).getName()), i);
+            sortedNameKeys.add(toKey(persons.get(i).getName()));
+            indexWords(persons.get(i).getName());
+        }
+        isNameIndexed = true;
+    }
+
+    /**
+     * Builds the name, word and sorted name indexes from the backing list if they have not been built yet.
+     */
+    private void ensureNameIndexed() {
+        if (isNameIndexed) {
+            return;
+        }
+        // Readers of a copy shared between threads may get here together, and only one of them may build the indexes
+        synchronized (this) {
+            if (!isNameIndexed) {
+                rebuildIndex(internalList);
+            }
+        }
+    }
+
+    /**
+     * Returns the positions of the persons with any of {@code keywords} as a whole word of their name.
+     */
+    private BitSet selectByNameKeywords(Collection<String> keywords) {
+        ensureNameIndexed();
+        BitSet matches = new BitSet(internalList.size());
+        for (String keyword : keywords) {
+            Set<String> keys = nameKeysByWord.get(keyword.trim().toLowerCase());
+            if (keys == null) {
+                continue;
+            }
+            for (String key : keys) {
+                matches.set(nameIndex.get(key));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Adds each word of {@code name} to the word index.
+     */
+    private void indexWords(Name name) {
+        String key = toKey(name);
+        for (String word : key.split("\\s+")) {
+            nameKeysByWord.computeIfAbsent(word, unused -> new HashSet<>()).add(key);
+        }
+    }
+
+    /**
+     * Removes each word of {@code name} from the word index.
+     */
+    private void unindexWords(Name name) {
+        String key = toKey(name);
+        for (String word : key.split("\\s+")) {
+            Set<String> keys = nameKeysByWord.get(word);
+            if (keys != null && keys.remove(key) && keys.isEmpty()) {
+                nameKeysByWord.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Replaces the running totals and bitmap indexes with ones built from {@code persons}, in list order.
+     */
+    private void recount(List<Person> persons) {
+        guestCounts.clear();
+        attributeIndex.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            guestCounts.add(persons.get(i));
+            attributeIndex.add(i, persons.get(i));
+        }
+    }
+
+    /**
+     * Returns the index key for {@code name}.
+     * Names are compared case-insensitively, as in {@code Name#equals(Object)}.
+     */
+    private static String toKey(Name name) {
+        return name.fullName.toLowerCase();
+    }
 }
@@ -8,6 +8,7 @@ import java.util.Objects;
 
 import javafx.collections.ObservableList;
 import seedu.address.logic.Messages;
+import seedu.address.model.person.GuestCounts;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
@@ -17,7 +18,8 @@ import seedu.address.model.table.exceptions.TableFullException;
 /**
  * Represents a seating table in a wedding.
  * Each table has a unique ID, a seating capacity, and a list of assigned persons.
- * This class is immutable, meaning once a table is created, its properties cannot be modified.
+ * The ID and capacity of a table cannot be modified once it is created, while its assigned persons are updated in
+ * place as guests are seated and unseated.
  */
 public final class Table {
 
@@ -109,10 +111,8 @@ public final class Table {
      * @param p Person to add to this table
      */
     public void addPerson(Person p) {
-        Person newPerson = new Person(p, tableId);
-
         if (uniquePersonList.contains(p)) {
-            setPerson(p, newPerson);
+            setPerson(p, new Person(p, tableId));
         } else {
             if (getSize() == getCapacity()) {
                 throw new TableFullException();
@@ -127,14 +127,7 @@ public final class Table {
      * @param p Person to delete from this table
      */
     public void deletePerson(Person p) {
-        Person newP = new Person(p);
-        boolean askfjlaksd = uniquePersonList.contains(p);
-        boolean aslkfjalskd2 = askfjlaksd;
-        if (!uniquePersonList.contains(p)) {
-            throw new PersonNotFoundException();
-        }
-
-        // Do a name check just in case
+        // Throws PersonNotFoundException if no person with the same name sits at this table
         this.uniquePersonList.delete(p);
     }
 
@@ -201,6 +194,15 @@ public final class Table {
         return this.uniquePersonList.size();
     }
 
+    /**
+     * Returns the running totals of the persons at this table by dietary restriction and RSVP status.
+     *
+     * @return The guest counts, kept up to date as persons are seated and unseated.
+     */
+    public GuestCounts getGuestCounts() {
+        return this.uniquePersonList.getGuestCounts();
+    }
+
     /**
      * Returns an immutable list of persons' names assigned to this table.
      *
@@ -3,9 +3,13 @@ package seedu.address.model.table;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -24,6 +28,10 @@ import seedu.address.model.table.exceptions.TableNotFoundException;
  * <p>
  * This list does not allow duplicate tables based on {@code Table#isSameTable(Table)}.
  * </p>
+ * <p>
+ * Tables are also indexed by a hash map from table ID to position in the list, so resolving a table by its ID takes
+ * constant time, and the index takes memory in proportion to the number of tables whatever their IDs are.
+ * </p>
  */
 public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
 
@@ -31,6 +39,9 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
     private final ObservableList<Table> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Maps the ID of each table to the table's position in {@code internalList}. */
+    private final Map<Integer, Integer> slotsById = new HashMap<>();
+
     /**
      * Creates a new empty UniqueTableList.
      */
@@ -45,9 +56,12 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
      */
     public UniqueTableList(UniqueTableList other) {
         requireNonNull(other);
+        List<Table> copies = new ArrayList<>(other.internalList.size());
         for (Table t : other) {
-            addTable(new Table(t));
+            copies.add(new Table(t));
         }
+        slotsById.putAll(other.slotsById);
+        internalList.setAll(copies);
     }
 
     /**
@@ -58,7 +72,8 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
      */
     public boolean contains(Table toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTable);
+        int slot = slotOf(toCheck.getTableId());
+        return slot != -1 && internalList.get(slot).isSameTable(toCheck);
     }
 
     /**
@@ -83,6 +98,7 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
         if (hasTableById(toAdd.getTableId())) {
             throw new DuplicateTableException();
         }
+        setSlot(toAdd.getTableId(), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -93,13 +109,11 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
      * @throws TableNotFoundException if the table does not exist.
      */
     public void deleteTableById(int tableId) {
-        requireNonNull(tableId);
-        Table table = findTableById(tableId);
-        if (table != null) {
-            internalList.remove(table);
-            return;
+        int slot = slotOf(tableId);
+        if (slot == -1) {
+            throw new TableNotFoundException();
         }
-        throw new TableNotFoundException();
+        removeAt(slot);
     }
 
     /**
@@ -109,7 +123,10 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
      */
     public void deleteTable(Table table) {
         requireNonNull(table);
-        internalList.remove(table);
+        int slot = slotOf(table.getTableId());
+        if (slot != -1 && internalList.get(slot).equals(table)) {
+            removeAt(slot);
+        }
     }
 
     /**
@@ -119,13 +136,11 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
      * @return An {@code Optional} containing the table if found, otherwise an empty {@code Optional}.
      */
     public Table findTableById(int tableId) throws TableNotFoundException {
-        requireNonNull(tableId);
-        try {
-            return internalList.stream().filter(table -> table.getTableId() == tableId)
-                .findFirst().get();
-        } catch (NoSuchElementException nsee) {
+        int slot = slotOf(tableId);
+        if (slot == -1) {
             throw new TableNotFoundException();
         }
+        return internalList.get(slot);
     }
 
     /**
@@ -136,12 +151,8 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
      */
     public Table findTable(Table table) {
         requireNonNull(table);
-        try {
-            return internalList.stream().filter(t -> t.getTableId() == table.getTableId())
-                .findFirst().get();
-        } catch (NoSuchElementException nsee) {
-            return null;
-        }
+        int slot = slotOf(table.getTableId());
+        return slot == -1 ? null : internalList.get(slot);
     }
 
     /**
@@ -151,7 +162,8 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
      */
     public boolean hasTable(Table table) {
         requireNonNull(table);
-        return internalList.contains(table);
+        int slot = slotOf(table.getTableId());
+        return slot != -1 && internalList.get(slot).equals(table);
     }
 
     /**
@@ -161,7 +173,7 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
      * @return {@code true} if the table exists, otherwise {@code false}.
      */
     public boolean hasTableById(int tableId) {
-        return internalList.stream().anyMatch(table -> table.getTableId() == tableId);
+        return slotOf(tableId) != -1;
     }
 
     /**
@@ -175,17 +187,12 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
         requireAllNonNull(tableId, person);
 
         Table table = findTableById(tableId);
-        if (table == null) {
-            throw new TableNotFoundException();
-        }
-
         addPersonToTable(person, table);
     }
 
     /**
      * Assigns a person to a specified table.
-     * Updates the internal list as adding a person to a table should techincally
-     * 'update' the table.
+     * The stored table with the same ID is updated in place, and a single change is fired for its row.
      *
      * @param table The table to assign the person to.
      * @param person The person to be assigned.
@@ -194,14 +201,12 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
     public void addPersonToTable(Person person, Table table) {
         requireAllNonNull(table, person);
 
-        if (!hasTable(table)) {
+        int slot = slotOf(table.getTableId());
+        if (slot == -1) {
             throw new TableNotFoundException();
         }
-        Table updatedTable = new Table(table);
-
-        updatedTable.addPerson(person);
-
-        internalList.set(internalList.indexOf(table), updatedTable);
+        internalList.get(slot).addPerson(person);
+        refreshSlot(slot);
     }
 
     /**
@@ -215,34 +220,26 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
         requireAllNonNull(tableId, person);
 
         Table table = findTableById(tableId);
-
-        if (table == null) {
-            throw new TableNotFoundException();
-        }
-
         deletePersonFromTable(person, table);
     }
 
     /**
      * Deletes the given person from the given table
      * if the person exists in the given table.
+     * The stored table with the same ID is updated in place, and a single change is fired for its row.
      * @param person to be deleted
      * @param table to be deleted from
      */
     public void deletePersonFromTable(Person person, Table table) {
         requireAllNonNull(table, person);
 
-        Table tableWithSameId = findTableById(table.getTableId());
-        int index = internalList.indexOf(tableWithSameId);
-
-        if (index == -1) {
+        int slot = slotOf(table.getTableId());
+        if (slot == -1) {
             throw new TableNotFoundException();
         }
 
-        tableWithSameId.deletePerson(person);
-
-        Table updatedTable = new Table(tableWithSameId);
-        internalList.set(index, updatedTable);
+        internalList.get(slot).deletePerson(person);
+        refreshSlot(slot);
     }
 
     /**
@@ -257,17 +254,21 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
     public void setTable(Table target, Table editedTable) {
         requireAllNonNull(target, editedTable);
 
-        Table tableWithSameId = findTableById(target.getTableId());
-        int index = internalList.indexOf(tableWithSameId);
-        if (index == -1) {
+        int slot = slotOf(target.getTableId());
+        if (slot == -1) {
             throw new TableNotFoundException();
         }
 
+        Table tableWithSameId = internalList.get(slot);
         if (!tableWithSameId.isSameTable(editedTable) && contains(editedTable)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedTable);
+        if (tableWithSameId.getTableId() != editedTable.getTableId()) {
+            setSlot(tableWithSameId.getTableId(), -1);
+            setSlot(editedTable.getTableId(), slot);
+        }
+        internalList.set(slot, editedTable);
     }
 
     /**
@@ -279,6 +280,10 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
         if (!tablesAreUnique(tables)) {
             throw new DuplicatePersonException();
         }
+        slotsById.clear();
+        for (int i = 0; i < tables.size(); i++) {
+            setSlot(tables.get(i).getTableId(), i);
+        }
         internalList.setAll(tables);
     }
 
@@ -322,6 +327,7 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
 
     @Override
     public void clear() {
+        this.slotsById.clear();
         this.internalList.clear();
         this.internalUnmodifiableList.clear();
     }
@@ -336,16 +342,53 @@ public class UniqueTableList implements Iterable<Table>, UniqueList<Table> {
     }
 
     /**
-     * Returns true if {@code tables} contains only unique persons.
+     * Returns true if {@code tables} contains only tables with unique IDs.
      */
     private boolean tablesAreUnique(List<Table> tables) {
-        for (int i = 0; i < tables.size() - 1; i++) {
-            for (int j = i + 1; j < tables.size(); j++) {
-                if (tables.get(i).isSameTable(tables.get(j))) {
-                    return false;
-                }
+        Set<Integer> seenIds = new HashSet<>();
+        for (Table table : tables) {
+            if (!seenIds.add(table.getTableId())) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Returns the position of the table with the given ID in {@code internalList}, or -1 if there is none.
+     */
+    private int slotOf(int tableId) {
+        return slotsById.getOrDefault(tableId, -1);
+    }
+
+    /**
+     * Records that the table with the given ID is at position {@code slot}.
+     * A {@code slot} of -1 removes the table ID from the index.
+     */
+    private void setSlot(int tableId, int slot) {
+        if (slot == -1) {
+            slotsById.remove(tableId);
+        } else {
+            slotsById.put(tableId, slot);
+        }
+    }
+
+    /**
+     * Notifies listeners that the table at position {@code slot} was modified in place.
+     * Re-setting the same table fires a single change covering only that row.
+     */
+    private void refreshSlot(int slot) {
+        internalList.set(slot, internalList.get(slot));
+    }
+
+    /**
+     * Removes the table at position {@code slot} and shifts the positions of the tables after it.
+     */
+    private void removeAt(int slot) {
+        Table removed = internalList.remove(slot);
+        setSlot(removed.getTableId(), -1);
+        for (int i = slot; i < internalList.size(); i++) {
+            setSlot(internalList.get(i).getTableId(), i);
+        }
+    }
 }
@@ -3,9 +3,12 @@ package seedu.address.model.wedding;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -24,6 +27,12 @@ import seedu.address.model.wedding.exceptions.WeddingNotFoundException;
  * <p>
  * This list does not allow duplicate weddings based on {@code Wedding#isSameWedding(Wedding)}.
  * </p>
+ * <p>
+ * Weddings are also indexed by their case-folded name to their position in the list, so lookups by name, and
+ * finding the position of a wedding to replace or delete, take constant time. Weddings are matched by name with
+ * {@code Wedding#isSameWedding(Wedding)} rather than {@code Wedding#equals(Object)}, which compares full guest and
+ * table lists and would load weddings that are not loaded yet.
+ * </p>
  */
 public class UniqueWeddingList implements Iterable<Wedding>, UniqueList<Wedding> {
 
@@ -31,12 +40,15 @@ public class UniqueWeddingList implements Iterable<Wedding>, UniqueList<Wedding>
     private final ObservableList<Wedding> internalUnmodifiableList = FXCollections
             .unmodifiableObservableList(internalList);
 
+    /** Maps the case-folded name of each wedding to the wedding's position in {@code internalList}. */
+    private final Map<String, Integer> slotsByName = new HashMap<>();
+
     /**
      * Returns true if the list contains an equivalent wedding as the given argument.
      */
     public boolean contains(Wedding toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(wedding -> wedding.isSameWedding(toCheck));
+        return slotsByName.containsKey(toCheck.getNameLower());
     }
 
     /**
@@ -61,6 +73,7 @@ public class UniqueWeddingList implements Iterable<Wedding>, UniqueList<Wedding>
             throw new IllegalArgumentException("Wedding with name " + toAdd.getName() + " already exists.");
         }
 
+        slotsByName.put(toAdd.getNameLower(), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -73,9 +86,16 @@ public class UniqueWeddingList implements Iterable<Wedding>, UniqueList<Wedding>
     public void deleteWedding(Wedding wedding) {
         requireNonNull(wedding);
 
-        if (!internalList.remove(wedding)) {
+        int slot = slotOf(wedding);
+        if (slot == -1) {
             throw new WeddingNotFoundException();
         }
+
+        slotsByName.remove(wedding.getNameLower());
+        internalList.remove(slot);
+        for (int i = slot; i < internalList.size(); i++) {
+            slotsByName.put(internalList.get(i).getNameLower(), i);
+        }
     }
 
     /**
@@ -100,25 +120,26 @@ public class UniqueWeddingList implements Iterable<Wedding>, UniqueList<Wedding>
      *
      */
     public Wedding findWeddingByName(String weddingName) {
-        String weddingNameLower = weddingName.toLowerCase();
-
-        return internalList.stream().filter(wedding -> wedding.getNameLower().equals(weddingNameLower))
-            .findFirst().orElseThrow(WeddingNotFoundException::new);
+        Integer slot = slotsByName.get(weddingName.toLowerCase());
+        if (slot == null) {
+            throw new WeddingNotFoundException();
+        }
+        return internalList.get(slot);
     }
 
     /**
-     * Finds a wedding in the list that is equal to the given wedding.
+     * Finds the wedding in the list with the same name as the given wedding.
      *
      * @param wedding The wedding to find.
      * @return The wedding from the list if found.
      * @throws WeddingNotFoundException if no matching wedding is found.
      */
     public Wedding findWedding(Wedding wedding) {
-        try {
-            return internalList.stream().filter(w -> w.equals(wedding)).findFirst().get();
-        } catch (NoSuchElementException nsee) {
+        int slot = slotOf(wedding);
+        if (slot == -1) {
             throw new WeddingNotFoundException();
         }
+        return internalList.get(slot);
     }
 
     /**
@@ -129,12 +150,7 @@ public class UniqueWeddingList implements Iterable<Wedding>, UniqueList<Wedding>
      */
     public boolean hasWeddingByName(String weddingName) {
         requireNonNull(weddingName);
-        try {
-            findWeddingByName(weddingName);
-            return true;
-        } catch (WeddingNotFoundException wnfe) {
-            return false;
-        }
+        return slotsByName.containsKey(weddingName.toLowerCase());
     }
 
     /**
@@ -144,7 +160,7 @@ public class UniqueWeddingList implements Iterable<Wedding>, UniqueList<Wedding>
      */
     public boolean hasWedding(Wedding wedding) {
         requireNonNull(wedding);
-        return internalList.contains(wedding);
+        return slotOf(wedding) != -1;
     }
 
     /**
@@ -158,8 +174,8 @@ public class UniqueWeddingList implements Iterable<Wedding>, UniqueList<Wedding>
     public void setWedding(Wedding target, Wedding editedWedding) {
         requireAllNonNull(target, editedWedding);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        int slot = slotOf(target);
+        if (slot == -1) {
             throw new WeddingNotFoundException();
         }
 
@@ -167,7 +183,9 @@ public class UniqueWeddingList implements Iterable<Wedding>, UniqueList<Wedding>
             throw new DuplicateWeddingException();
         }
 
-        internalList.set(index, editedWedding);
+        slotsByName.remove(target.getNameLower());
+        slotsByName.put(editedWedding.getNameLower(), slot);
+        internalList.set(slot, editedWedding);
     }
 
     /**
@@ -177,6 +195,8 @@ public class UniqueWeddingList implements Iterable<Wedding>, UniqueList<Wedding>
      */
     public void setWeddings(UniqueWeddingList replacement) {
         requireNonNull(replacement);
+        slotsByName.clear();
+        slotsByName.putAll(replacement.slotsByName);
         internalList.setAll(replacement.internalList);
     }
 
@@ -192,6 +212,10 @@ public class UniqueWeddingList implements Iterable<Wedding>, UniqueList<Wedding>
             throw new DuplicateWeddingException();
         }
 
+        slotsByName.clear();
+        for (int i = 0; i < weddings.size(); i++) {
+            slotsByName.put(weddings.get(i).getNameLower(), i);
+        }
         internalList.setAll(weddings);
     }
 
@@ -267,6 +291,7 @@ public class UniqueWeddingList implements Iterable<Wedding>, UniqueList<Wedding>
 
     @Override
     public void clear() {
+        this.slotsByName.clear();
         this.internalList.clear();
         this.internalUnmodifiableList.clear();
     }
@@ -287,16 +312,23 @@ public class UniqueWeddingList implements Iterable<Wedding>, UniqueList<Wedding>
      * @return true if all weddings are unique, false otherwise.
      */
     private boolean weddingsAreUnique(List<Wedding> weddings) {
-        for (int i = 0; i < weddings.size() - 1; i++) {
-            for (int j = i + 1; j < weddings.size(); j++) {
-                if (weddings.get(i).isSameWedding(weddings.get(j))) {
-                    return false;
-                }
+        Set<String> seenNames = new HashSet<>();
+        for (Wedding wedding : weddings) {
+            if (!seenNames.add(wedding.getNameLower())) {
+                return false;
             }
         }
         return true;
     }
 
+    /**
+     * Returns the position in {@code internalList} of the wedding with the same name as {@code wedding}, or -1 if
+     * there is none.
+     */
+    private int slotOf(Wedding wedding) {
+        return slotsByName.getOrDefault(wedding.getNameLower(), -1);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,22 +1,43 @@
 package seedu.address.model.wedding;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
+import seedu.address.model.person.GuestCounts;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.table.Table;
 import seedu.address.model.table.UniqueTableList;
+import seedu.address.model.table.exceptions.DuplicateTableException;
+import seedu.address.model.table.exceptions.TableFullException;
 import seedu.address.model.table.exceptions.TableNotFoundException;
+import seedu.address.model.wedding.exceptions.WeddingLoadingException;
 
 /**
  * Represents a Wedding in the address book.
+ * A wedding read from storage may hold only its name until its guests or tables are first needed.
  */
 public class Wedding {
+    private static final AtomicLong lastVersion = new AtomicLong();
+
     private final String name;
-    private final UniquePersonList uniquePersonList;
-    private final UniqueTableList tableList; // All tables for seating
+    private UniquePersonList uniquePersonList;
+    private UniqueTableList tableList; // All tables for seating
+
+    // Reads the guests and tables when they are first needed, or null once they are in memory
+    private volatile WeddingLoader loader;
+
+    // Stamps the guests and tables, and is replaced by a new stamp whenever they change
+    private volatile long version = lastVersion.incrementAndGet();
 
     /**
      * Constructs a new {@code Wedding} with the given name.
@@ -37,8 +58,88 @@ public class Wedding {
      */
     public Wedding(Wedding wedding) {
         this.name = wedding.name;
-        this.uniquePersonList = new UniquePersonList(wedding.uniquePersonList);
-        this.tableList = new UniqueTableList(wedding.tableList);
+        this.version = wedding.version;
+
+        WeddingLoader sourceLoader = wedding.loader;
+        if (sourceLoader != null) {
+            // The copy reads its own guests and tables from storage when they are needed
+            this.loader = sourceLoader;
+            return;
+        }
+        this.uniquePersonList = new UniquePersonList(wedding.getUniquePersonList());
+        this.tableList = new UniqueTableList(wedding.getTableList());
+    }
+
+    /**
+     * Constructs a {@code Wedding} with the given name, whose guests and tables are read by {@code loader} the
+     * first time they are needed.
+     *
+     * @param name Name of the wedding.
+     * @param loader Reads a wedding with the same name from storage.
+     */
+    public Wedding(String name, WeddingLoader loader) {
+        requireAllNonNull(name, loader);
+        this.name = name;
+        this.loader = loader;
+    }
+
+    /**
+     * Constructs a {@code Wedding} with the given name that holds the given lists as they are.
+     */
+    private Wedding(String name, UniquePersonList uniquePersonList, UniqueTableList tableList) {
+        this.name = name;
+        this.uniquePersonList = uniquePersonList;
+        this.tableList = tableList;
+    }
+
+    /**
+     * Returns true if the guests and tables of this wedding are in memory.
+     */
+    public boolean isLoaded() {
+        return loader == null;
+    }
+
+    /**
+     * Returns the loader that will read the guests and tables of this wedding, or null if they are in memory.
+     * A wedding that is not loaded has not changed since it was read from storage.
+     */
+    public WeddingLoader getLoader() {
+        return loader;
+    }
+
+    /**
+     * Returns the version of the guests and tables of this wedding.
+     * Every change made through the methods of a wedding gives it a new version, and a copy of a wedding has the
+     * same version as the wedding it was copied from, so two weddings with the same version have the same guests
+     * and tables. Loading the guests and tables from storage does not change the version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Reads the guests and tables of this wedding from storage if they are not in memory yet.
+     *
+     * @throws WeddingLoadingException if the wedding could not be read.
+     */
+    public void load() {
+        if (loader == null) {
+            return;
+        }
+        synchronized (this) {
+            WeddingLoader currentLoader = loader;
+            if (currentLoader == null) {
+                return;
+            }
+
+            Wedding loaded = currentLoader.load();
+            if (!isSameWedding(loaded)) {
+                throw new WeddingLoadingException("Stored wedding " + loaded.getName() + " is not " + name);
+            }
+            uniquePersonList = loaded.getUniquePersonList();
+            tableList = loaded.getTableList();
+            loader = null;
+        }
     }
 
     /**
@@ -60,6 +161,7 @@ public class Wedding {
      * @return The unique person list.
      */
     public UniquePersonList getUniquePersonList() {
+        load();
         return uniquePersonList;
     }
 
@@ -69,9 +171,20 @@ public class Wedding {
      * @return The unique table list.
      */
     public UniqueTableList getTableList() {
+        load();
         return tableList;
     }
 
+    /**
+     * Returns the running totals of this wedding's guests by dietary restriction and RSVP status.
+     *
+     * @return The guest counts, kept up to date as guests are added, edited and removed.
+     */
+    public GuestCounts getGuestCounts() {
+        load();
+        return uniquePersonList.getGuestCounts();
+    }
+
     // =========== Persons =====================================================
 
     /**
@@ -80,6 +193,8 @@ public class Wedding {
      * @param person The person to add.
      */
     public void addPerson(Person person) {
+        load();
+        markChanged();
         uniquePersonList.add(person);
     }
 
@@ -89,6 +204,8 @@ public class Wedding {
      * @param person The person to delete.
      */
     public void deletePerson(Person person) {
+        load();
+        markChanged();
         uniquePersonList.delete(person);
         if (person.isSeated()) {
             deletePersonFromTableById(person, person.getTableId());
@@ -102,6 +219,8 @@ public class Wedding {
      * @param editedPerson The replacement person.
      */
     public void setPerson(Person target, Person editedPerson) {
+        load();
+        markChanged();
         uniquePersonList.setPerson(target, editedPerson);
     }
 
@@ -111,6 +230,8 @@ public class Wedding {
      * @param replacement The new person list to replace the existing one.
      */
     public void setPersons(UniquePersonList replacement) {
+        load();
+        markChanged();
         this.uniquePersonList.setPersons(replacement);
     }
 
@@ -122,6 +243,7 @@ public class Wedding {
      * @throws PersonNotFoundException
      */
     public Person findPersonByName(Name name) throws PersonNotFoundException {
+        load();
         return uniquePersonList.findPersonByName(name);
     }
 
@@ -132,6 +254,7 @@ public class Wedding {
      * @return True if the person exists in the wedding's guest list, false otherwise.
      */
     public boolean hasPerson(Person person) {
+        load();
         return uniquePersonList.contains(person);
     }
 
@@ -143,6 +266,8 @@ public class Wedding {
      * @param table The table to add.
      */
     public void addTable(Table table) {
+        load();
+        markChanged();
         this.tableList.addTable(table);
     }
 
@@ -152,6 +277,8 @@ public class Wedding {
      * @param table The table to delete.
      */
     public void deleteTable(Table table) {
+        load();
+        markChanged();
         tableList.deleteTable(table);
     }
 
@@ -161,6 +288,7 @@ public class Wedding {
      * @param tableId The ID of the table to delete.
      */
     public void deleteTableById(int tableId) {
+        load();
         Table table = tableList.findTableById(tableId);
         deleteTable(table);
     }
@@ -172,6 +300,7 @@ public class Wedding {
      * @return The matching table if found.
      */
     public Table findTable(Table table) {
+        load();
         return tableList.findTable(table);
     }
 
@@ -182,6 +311,7 @@ public class Wedding {
      * @return The table with the matching ID if found.
      */
     public Table findTableById(int tableId) {
+        load();
         return tableList.findTableById(tableId);
     }
 
@@ -192,6 +322,7 @@ public class Wedding {
      * @return True if the table exists in the wedding's seating arrangement, false otherwise.
      */
     public boolean hasTable(Table table) {
+        load();
         return tableList.contains(table);
     }
 
@@ -202,6 +333,7 @@ public class Wedding {
      * @return True if a table with the specified ID exists, false otherwise.
      */
     public boolean hasTableById(int tableId) {
+        load();
         return tableList.hasTableById(tableId);
     }
 
@@ -212,6 +344,8 @@ public class Wedding {
      * @param editedPerson The replacement table.
      */
     public void setTable(Table target, Table editedPerson) {
+        load();
+        markChanged();
         tableList.setTable(target, editedPerson);
     }
 
@@ -222,6 +356,8 @@ public class Wedding {
      * @param table The table to assign the person to.
      */
     public void addPersonToTable(Person p, Table table) {
+        load();
+        markChanged();
         if (!hasPerson(p)) {
             throw new PersonNotFoundException();
         }
@@ -243,6 +379,7 @@ public class Wedding {
      * @param tableId The ID of the table to assign the person to.
      */
     public void addPersonToTableById(Person p, int tableId) {
+        load();
         Table t = findTableById(tableId);
         addPersonToTable(p, t);
     }
@@ -255,6 +392,8 @@ public class Wedding {
      * @throws TableNotFoundException If the table does not exist.
      */
     public void deletePersonFromTable(Person p, Table table) {
+        load();
+        markChanged();
         if (!hasPerson(p)) {
             throw new PersonNotFoundException();
         }
@@ -270,9 +409,18 @@ public class Wedding {
      * @throws TableNotFoundException If no table with the specified ID exists.
      */
     public void deletePersonFromTableById(Person p, int tableId) {
+        load();
+        markChanged();
         tableList.deletePersonFromTableById(p, tableId);
     }
 
+    /**
+     * Gives this wedding a new version, before its guests or tables are changed.
+     */
+    private void markChanged() {
+        version = lastVersion.incrementAndGet();
+    }
+
     // =========== Utils ======================================================
 
     /**
@@ -291,6 +439,14 @@ public class Wedding {
         }
         Wedding otherWedding = (Wedding) other;
 
+        WeddingLoader currentLoader = loader;
+        if (currentLoader != null && currentLoader.equals(otherWedding.loader)) {
+            // Both weddings are unchanged since they were read from the same place in storage
+            return isSameWedding(otherWedding);
+        }
+        load();
+        otherWedding.load();
+
         String weddingNameLower = name.toLowerCase();
         String otherWeddingNameLower = otherWedding.name.toLowerCase();
 
@@ -306,6 +462,7 @@ public class Wedding {
      */
     @Override
     public int hashCode() {
+        load();
         return Objects.hash(name, uniquePersonList, tableList);
     }
 
@@ -316,6 +473,9 @@ public class Wedding {
      */
     @Override
     public String toString() {
+        if (!isLoaded()) {
+            return "Wedding{name='" + name + "', not loaded}";
+        }
         return "Wedding{name='" + name + "', people= " + uniquePersonList + '}';
     }
 
@@ -333,4 +493,89 @@ public class Wedding {
 
         return otherWedding != null && otherWedding.getNameLower().equals(getNameLower());
     }
+
+    /**
+     * Builds a {@code Wedding} from its complete lists of tables and guests at once.
+     * Each guest is seated at the table given by their table ID. The lists are checked and stored in a single pass,
+     * instead of adding and seating the guests one at a time.
+     */
+    public static class Builder {
+        private final String name;
+        private final List<Table> tables = new ArrayList<>();
+        private final List<Person> guests = new ArrayList<>();
+
+        /**
+         * Creates a {@code Builder} for a wedding with the given name, and no tables or guests.
+         *
+         * @param name Name of the wedding.
+         */
+        public Builder(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Sets the tables of the wedding being built to {@code tables}.
+         * The tables are used as they are, and their guests are replaced by the guests seated at them.
+         */
+        public Builder withTables(List<Table> tables) {
+            requireAllNonNull(tables);
+            this.tables.clear();
+            this.tables.addAll(tables);
+            return this;
+        }
+
+        /**
+         * Sets the guests of the wedding being built to {@code guests}.
+         */
+        public Builder withGuests(List<Person> guests) {
+            requireAllNonNull(guests);
+            this.guests.clear();
+            this.guests.addAll(guests);
+            return this;
+        }
+
+        /**
+         * Returns a wedding with the tables and guests given to this builder.
+         *
+         * @throws DuplicateTableException if two tables have the same ID.
+         * @throws DuplicatePersonException if two guests have the same name.
+         * @throws TableNotFoundException if a guest is seated at a table that is not given.
+         * @throws TableFullException if more guests are seated at a table than it can hold.
+         */
+        public Wedding build() {
+            Map<Integer, List<Person>> guestsByTableId = new HashMap<>();
+            for (Table table : tables) {
+                if (guestsByTableId.putIfAbsent(table.getTableId(), new ArrayList<>()) != null) {
+                    throw new DuplicateTableException();
+                }
+            }
+
+            for (Person guest : guests) {
+                if (!guest.isSeated()) {
+                    continue;
+                }
+                List<Person> seatedGuests = guestsByTableId.get(guest.getTableId());
+                if (seatedGuests == null) {
+                    throw new TableNotFoundException();
+                }
+                seatedGuests.add(guest);
+            }
+
+            UniquePersonList uniquePersonList = new UniquePersonList();
+            // Throws DuplicatePersonException if two guests have the same name
+            uniquePersonList.setPersons(guests);
+
+            for (Table table : tables) {
+                List<Person> seatedGuests = guestsByTableId.get(table.getTableId());
+                if (seatedGuests.size() > table.getCapacity()) {
+                    throw new TableFullException();
+                }
+                table.setPersons(seatedGuests);
+            }
+            UniqueTableList tableList = new UniqueTableList();
+            tableList.setTables(tables);
+
+            return new Wedding(name, uniquePersonList, tableList);
+        }
+    }
 }
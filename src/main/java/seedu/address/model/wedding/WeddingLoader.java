@@ -0,0 +1,17 @@
+package seedu.address.model.wedding;
+
+import seedu.address.model.wedding.exceptions.WeddingLoadingException;
+
+/**
+ * Reads the guests and tables of a wedding from storage when they are first needed.
+ */
+@FunctionalInterface
+public interface WeddingLoader {
+
+    /**
+     * Returns a new wedding with the guests and tables held in storage.
+     *
+     * @throws WeddingLoadingException if the wedding could not be read.
+     */
+    Wedding load();
+}
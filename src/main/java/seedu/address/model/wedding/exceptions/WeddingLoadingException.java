@@ -0,0 +1,14 @@
+package seedu.address.model.wedding.exceptions;
+
+/**
+ * Signals that the guests and tables of a wedding could not be read from storage.
+ */
+public class WeddingLoadingException extends RuntimeException {
+    public WeddingLoadingException(String message) {
+        super(message);
+    }
+
+    public WeddingLoadingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
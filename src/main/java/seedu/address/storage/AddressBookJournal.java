@@ -0,0 +1,28 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.List;
+
+import seedu.address.model.AddressBookChange;
+
+/**
+ * Represents a storage that can record the changes made to an address book since it was last saved as a whole,
+ * instead of saving the whole address book after every change.
+ */
+public interface AddressBookJournal {
+
+    /**
+     * Records {@code changes}, in the order given, on top of the changes recorded so far.
+     * The changes are on disk when this method returns.
+     * @param changes cannot be null, and cannot contain changes that require a snapshot.
+     * @throws IOException if there was any problem writing to the journal.
+     */
+    void appendChanges(List<AddressBookChange> changes) throws IOException;
+
+    /**
+     * Returns true if the whole address book should be saved instead of recording further changes,
+     * because the journal has grown too large or too old, or does not match the saved address book.
+     */
+    boolean isCompactionDue();
+
+}
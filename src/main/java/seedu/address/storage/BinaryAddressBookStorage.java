@@ -0,0 +1,458 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.DietaryRestriction;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Rsvp;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.table.Table;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.wedding.Wedding;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ * <p>
+ * The file starts with a header holding a magic number, the version of the format, and the length and checksum of
+ * the data that follows. Every distinct string is stored once in a string table at the start of the data, and
+ * weddings and guests refer to their names, contact details and tags by index into it. Dietary restrictions and RSVP
+ * statuses are stored as enum ordinals, and table IDs as ints. The file is written through a direct buffer and read
+ * into a heap buffer with a single channel read. It is not memory-mapped, as a mapping outlives its channel until it
+ * is garbage collected, and a data file that is still mapped cannot be replaced on Windows.
+ * </p>
+ * <p>
+ * A data file in json is read with {@link ShardedAddressBookStorage}, so that it is converted to the binary format
+ * the next time the address book is saved.
+ * </p>
+ */
+public class BinaryAddressBookStorage implements SnapshotStorage {
+
+    public static final int FORMAT_VERSION = 1;
+    public static final String MESSAGE_CORRUPTED_FILE = "Data file %s is corrupted.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Data file %s is in version %d of the binary format, "
+            + "which is newer than this version of WeddingHero supports.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+    private static final Charset CHARSET = StandardCharsets.UTF_8;
+    private static final int MAGIC = 0x57484142; // "WHAB"
+    private static final int HEADER_SIZE = 16;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int NO_STRING = -1;
+    private static final DietaryRestriction.TypicalRestriction[] DIETARY_RESTRICTIONS =
+            DietaryRestriction.TypicalRestriction.values();
+    private static final Rsvp.Status[] RSVP_STATUSES = Rsvp.Status.values();
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} is in the binary format.
+     */
+    public static boolean isBinaryFile(Path filePath) {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES);
+            while (magic.hasRemaining() && channel.read(magic) != -1) {
+                // Keep reading until the magic number is read or the file ends
+            }
+            return !magic.hasRemaining() && magic.getInt(0) == MAGIC;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readSnapshot(filePath).map(Snapshot::getAddressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        writeSnapshot(addressBook, filePath);
+    }
+
+    @Override
+    public Optional<Snapshot> readSnapshot(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        if (!isBinaryFile(filePath)) {
+            logger.info("Data file " + filePath + " is in json, reading it for conversion to the binary format.");
+            return new ShardedAddressBookStorage(filePath).readSnapshot(filePath);
+        }
+        logger.info("Data file " + filePath + " found.");
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            return Optional.of(readSnapshot(readFully(channel), filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.severe(ive.toString());
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The file is forced to disk under a temporary name before it replaces the data file.
+     */
+    @Override
+    public long writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Map<String, Integer> strings = getStringTable(addressBook);
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+
+        long checksum;
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ChannelWriter writer = new ChannelWriter(channel, HEADER_SIZE);
+            writeStringTable(strings, writer);
+            writer.putInt(addressBook.getWeddingList().size());
+            for (Wedding wedding : addressBook.getWeddingList()) {
+                writeWedding(wedding, strings, writer);
+            }
+            writer.putInt(addressBook.hasCurrentWedding()
+                    ? strings.get(addressBook.getCurrentWedding().getName())
+                    : NO_STRING);
+            writer.flush();
+
+            if (writer.getLength() > Integer.MAX_VALUE) {
+                throw new IOException("The address book is too large to be saved in the binary format.");
+            }
+            checksum = writer.getChecksum();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                    .putInt(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putInt((int) writer.getLength())
+                    .putInt((int) checksum);
+            header.flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(true);
+        }
+
+        FileUtil.moveAtomically(tempFile, filePath);
+        return checksum;
+    }
+
+    /**
+     * Returns every distinct string in {@code addressBook}, each mapped to its index in the string table.
+     */
+    private static Map<String, Integer> getStringTable(ReadOnlyAddressBook addressBook) {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        for (Wedding wedding : addressBook.getWeddingList()) {
+            strings.putIfAbsent(wedding.getName(), strings.size());
+            for (Person person : wedding.getUniquePersonList().asUnmodifiableObservableList()) {
+                strings.putIfAbsent(person.getName().fullName, strings.size());
+                strings.putIfAbsent(person.getPhone().value, strings.size());
+                strings.putIfAbsent(person.getEmail().value, strings.size());
+                strings.putIfAbsent(person.getAddress().value, strings.size());
+                for (Tag tag : person.getTags()) {
+                    strings.putIfAbsent(tag.tagName, strings.size());
+                }
+            }
+        }
+        return strings;
+    }
+
+    private static void writeStringTable(Map<String, Integer> strings, ChannelWriter writer) throws IOException {
+        writer.putInt(strings.size());
+        for (String string : strings.keySet()) {
+            byte[] bytes = string.getBytes(CHARSET);
+            writer.putInt(bytes.length);
+            writer.putBytes(bytes);
+        }
+    }
+
+    private static void writeWedding(Wedding wedding, Map<String, Integer> strings, ChannelWriter writer)
+            throws IOException {
+        writer.putInt(strings.get(wedding.getName()));
+
+        List<Table> tables = wedding.getTableList().asUnmodifiableObservableList();
+        writer.putInt(tables.size());
+        for (Table table : tables) {
+            writer.putInt(table.getTableId());
+            writer.putInt(table.getCapacity());
+        }
+
+        List<Person> guests = wedding.getUniquePersonList().asUnmodifiableObservableList();
+        writer.putInt(guests.size());
+        for (Person person : guests) {
+            writer.putInt(strings.get(person.getName().fullName));
+            writer.putInt(strings.get(person.getPhone().value));
+            writer.putInt(strings.get(person.getEmail().value));
+            writer.putInt(strings.get(person.getAddress().value));
+            writer.putInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                writer.putInt(strings.get(tag.tagName));
+            }
+            writer.putByte(person.getDietaryRestriction().getTypicalRestriction().ordinal());
+            writer.putByte(person.getRsvp().getStatus().ordinal());
+            writer.putInt(person.getTableId());
+        }
+    }
+
+    /**
+     * Returns a heap buffer holding the whole file open in {@code channel}, ready to be read.
+     */
+    private static ByteBuffer readFully(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Data file is too large: " + size + " bytes");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) == -1) {
+                throw new IOException("Data file ended after " + buffer.position() + " of " + size + " bytes");
+            }
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Reads the address book in {@code buffer}, which holds the whole data file at {@code filePath}.
+     */
+    private static Snapshot readSnapshot(ByteBuffer buffer, Path filePath) throws IllegalValueException {
+        IllegalValueException corrupted = new IllegalValueException(String.format(MESSAGE_CORRUPTED_FILE, filePath));
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw corrupted;
+        }
+        int version = buffer.getInt();
+        if (version > FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, filePath, version));
+        }
+        int length = buffer.getInt();
+        int expectedChecksum = buffer.getInt();
+        if (version < 1 || length != buffer.remaining()) {
+            throw corrupted;
+        }
+
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.duplicate());
+        if ((int) checksum.getValue() != expectedChecksum) {
+            throw corrupted;
+        }
+
+        try {
+            return new Snapshot(readAddressBook(buffer), checksum.getValue());
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw corrupted;
+        }
+    }
+
+    private static AddressBook readAddressBook(ByteBuffer buffer) throws IllegalValueException {
+        String[] strings = new String[readCount(buffer)];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[readCount(buffer)];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, CHARSET);
+        }
+        Tag[] tags = new Tag[strings.length];
+
+        AddressBook addressBook = new AddressBook();
+        int weddingCount = readCount(buffer);
+        for (int i = 0; i < weddingCount; i++) {
+            Wedding wedding = readWedding(buffer, strings, tags);
+            if (addressBook.hasWedding(wedding)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_WEDDING);
+            }
+            addressBook.addWedding(wedding);
+        }
+
+        int currentWedding = buffer.getInt();
+        if (currentWedding != NO_STRING && addressBook.getWeddingByName(strings[currentWedding]) != null) {
+            addressBook.setCurrentWeddingByName(strings[currentWedding]);
+        }
+        return addressBook;
+    }
+
+    private static Wedding readWedding(ByteBuffer buffer, String[] strings, Tag[] tags)
+            throws IllegalValueException {
+        String name = strings[buffer.getInt()];
+
+        List<Table> tables = new ArrayList<>();
+        int tableCount = readCount(buffer);
+        for (int i = 0; i < tableCount; i++) {
+            tables.add(new Table(buffer.getInt(), buffer.getInt(), new UniquePersonList()));
+        }
+
+        List<Person> guests = new ArrayList<>();
+        int guestCount = readCount(buffer);
+        for (int i = 0; i < guestCount; i++) {
+            guests.add(readPerson(buffer, strings, tags));
+        }
+
+        return JsonAdaptedWedding.toModelType(name, tables, guests);
+    }
+
+    private static Person readPerson(ByteBuffer buffer, String[] strings, Tag[] tags) throws IllegalValueException {
+        Name name = new Name(requireValid(strings[buffer.getInt()], Name::isValidName, Name.MESSAGE_CONSTRAINTS));
+        Phone phone = new Phone(requireValid(strings[buffer.getInt()], Phone::isValidPhone,
+                Phone.MESSAGE_CONSTRAINTS));
+        Email email = new Email(requireValid(strings[buffer.getInt()], Email::isValidEmail,
+                Email.MESSAGE_CONSTRAINTS));
+        Address address = new Address(requireValid(strings[buffer.getInt()], Address::isValidAddress,
+                Address.MESSAGE_CONSTRAINTS));
+
+        Set<Tag> personTags = new HashSet<>();
+        int tagCount = readCount(buffer);
+        for (int i = 0; i < tagCount; i++) {
+            int tag = buffer.getInt();
+            if (tags[tag] == null) {
+                // Tags are shared by every guest that has them, as they are immutable
+                tags[tag] = new Tag(requireValid(strings[tag], Tag::isValidTagName, Tag.MESSAGE_CONSTRAINTS));
+            }
+            personTags.add(tags[tag]);
+        }
+
+        DietaryRestriction dietaryRestriction = new DietaryRestriction(DIETARY_RESTRICTIONS[buffer.get()]);
+        Rsvp rsvp = new Rsvp(RSVP_STATUSES[buffer.get()]);
+        int tableId = buffer.getInt();
+        return new Person(name, phone, email, address, personTags, dietaryRestriction, rsvp, tableId);
+    }
+
+    /**
+     * Reads a count of items, each of which takes at least a byte of the rest of {@code buffer}.
+     */
+    private static int readCount(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return count;
+    }
+
+    private static String requireValid(String value, Predicate<String> isValid, String message)
+            throws IllegalValueException {
+        if (!isValid.test(value)) {
+            throw new IllegalValueException(message);
+        }
+        return value;
+    }
+
+    /**
+     * Writes to a file channel through a direct buffer, keeping a checksum of the bytes written.
+     */
+    private static class ChannelWriter {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private final CRC32 checksum = new CRC32();
+        private long length;
+
+        ChannelWriter(FileChannel channel, long position) throws IOException {
+            this.channel = channel;
+            channel.position(position);
+        }
+
+        void putInt(int value) throws IOException {
+            if (buffer.remaining() < Integer.BYTES) {
+                flush();
+            }
+            buffer.putInt(value);
+        }
+
+        void putByte(int value) throws IOException {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            buffer.put((byte) value);
+        }
+
+        void putBytes(byte[] bytes) throws IOException {
+            int offset = 0;
+            while (offset < bytes.length) {
+                if (!buffer.hasRemaining()) {
+                    flush();
+                }
+                int count = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, count);
+                offset += count;
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            checksum.update(buffer.duplicate());
+            length += buffer.remaining();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        long getLength() {
+            return length;
+        }
+
+        long getChecksum() {
+            return checksum.getValue();
+        }
+    }
+}
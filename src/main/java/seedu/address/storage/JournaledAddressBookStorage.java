@@ -0,0 +1,291 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a snapshot on the hard disk, together with a journal of the changes
+ * made since the snapshot was written. Snapshots are stored with {@link ShardedAddressBookStorage} as json, or with
+ * {@link BinaryAddressBookStorage}.
+ * <p>
+ * Each change is appended to the journal as a line of json and forced to disk, so recording a change takes time
+ * proportional to the change rather than to the whole address book. Saving the whole address book writes a new
+ * snapshot and starts an empty journal, compacting the changes recorded so far into the snapshot. Reading loads the
+ * snapshot and replays the journal on top of it.
+ * </p>
+ * <p>
+ * The first line of the journal holds a checksum of the snapshot it applies to. A journal that does not match the
+ * snapshot, for example because the program stopped after writing a new snapshot but before starting its journal,
+ * is ignored. Replaying stops at the first change that cannot be read or applied, such as a change that was only
+ * partly written when the program stopped.
+ * </p>
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage, AddressBookJournal {
+
+    public static final long DEFAULT_MAX_JOURNAL_SIZE = 1024 * 1024;
+    public static final Duration DEFAULT_MAX_JOURNAL_AGE = Duration.ofHours(1);
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+    private static final Charset CHARSET = StandardCharsets.UTF_8;
+    private static final String JOURNAL_HEADER_FORMAT = "# snapshot %x started %d";
+    private static final String JOURNAL_HEADER_PREFIX = "# snapshot ";
+
+    private final Path filePath;
+    private final SnapshotStorage snapshotStorage;
+    private final long maxJournalSize;
+    private final Duration maxJournalAge;
+
+    // The state of the journal of filePath, only changed while holding the lock on this
+    private volatile boolean isJournalValid;
+    private volatile long journalSize;
+    private volatile Instant journalStartTime;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that stores snapshots as json, and compacts the journal once it
+     * reaches the default size or age.
+     */
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DataFileFormat.JSON);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that stores snapshots in {@code format}, and compacts the
+     * journal once it reaches the default size or age.
+     */
+    public JournaledAddressBookStorage(Path filePath, DataFileFormat format) {
+        this(filePath, createSnapshotStorage(filePath, format), DEFAULT_MAX_JOURNAL_SIZE, DEFAULT_MAX_JOURNAL_AGE);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that stores snapshots as json, and compacts the journal once it
+     * reaches {@code maxJournalSize} bytes or {@code maxJournalAge}.
+     */
+    public JournaledAddressBookStorage(Path filePath, long maxJournalSize, Duration maxJournalAge) {
+        this(filePath, new ShardedAddressBookStorage(filePath), maxJournalSize, maxJournalAge);
+    }
+
+    private JournaledAddressBookStorage(Path filePath, SnapshotStorage snapshotStorage, long maxJournalSize,
+            Duration maxJournalAge) {
+        requireNonNull(filePath);
+        requireNonNull(maxJournalAge);
+
+        this.filePath = filePath;
+        this.snapshotStorage = snapshotStorage;
+        this.maxJournalSize = maxJournalSize;
+        this.maxJournalAge = maxJournalAge;
+    }
+
+    private static SnapshotStorage createSnapshotStorage(Path filePath, DataFileFormat format) {
+        requireNonNull(format);
+        return format == DataFileFormat.BINARY
+                ? new BinaryAddressBookStorage(filePath)
+                : new ShardedAddressBookStorage(filePath);
+    }
+
+    /**
+     * Returns the path of the journal of the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".journal");
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the snapshot from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            isJournalValid = false;
+        }
+
+        Optional<SnapshotStorage.Snapshot> snapshot = snapshotStorage.readSnapshot(filePath);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook = snapshot.get().getAddressBook();
+        Path journalFilePath = getJournalFilePath(filePath);
+        Instant startTime = replayJournal(addressBook, journalFilePath, snapshot.get().getChecksum());
+        if (isOwnFile && startTime != null) {
+            try {
+                journalSize = Files.size(journalFilePath);
+                journalStartTime = startTime;
+                isJournalValid = true;
+            } catch (IOException e) {
+                logger.warning("Error reading the size of journal " + journalFilePath + ": " + e);
+            }
+        }
+
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The snapshot replaces the one at {@code filePath} in a single step, and an empty journal is started.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            // Changes cannot be appended to the old journal once the new snapshot replaces its data file
+            isJournalValid = false;
+        }
+
+        long snapshotChecksum = snapshotStorage.writeSnapshot(addressBook, filePath);
+
+        Instant startTime = Instant.now();
+        String header = String.format(JOURNAL_HEADER_FORMAT, snapshotChecksum, startTime.toEpochMilli());
+        byte[] journal = (header + "\n").getBytes(CHARSET);
+        FileUtil.writeToFileAtomically(getJournalFilePath(filePath), journal);
+
+        if (isOwnFile) {
+            journalSize = journal.length;
+            journalStartTime = startTime;
+            isJournalValid = true;
+        }
+    }
+
+    @Override
+    public synchronized void appendChanges(List<AddressBookChange> changes) throws IOException {
+        requireNonNull(changes);
+        if (changes.isEmpty()) {
+            return;
+        }
+        if (!isJournalValid) {
+            throw new IOException("The journal of " + filePath + " does not match it, so the data file has to be"
+                    + " saved as a whole.");
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (AddressBookChange change : changes) {
+            lines.append(JsonUtil.toJsonLine(new JsonAdaptedAddressBookChange(change))).append('\n');
+        }
+        byte[] bytes = lines.toString().getBytes(CHARSET);
+
+        try {
+            FileUtil.appendToFileDurably(getJournalFilePath(filePath), bytes);
+        } catch (IOException e) {
+            // The journal may now end with part of a change, so nothing more can be appended to it
+            isJournalValid = false;
+            throw e;
+        }
+        journalSize += bytes.length;
+    }
+
+    @Override
+    public boolean isCompactionDue() {
+        return !isJournalValid
+                || journalSize >= maxJournalSize
+                || Duration.between(journalStartTime, Instant.now()).compareTo(maxJournalAge) >= 0;
+    }
+
+    /**
+     * Applies the changes in the journal at {@code journalFilePath} to {@code addressBook}, which was read from the
+     * snapshot with checksum {@code snapshotChecksum}.
+     *
+     * @return The time the journal was started, or null if it is missing, does not match the snapshot, or could not
+     *     be replayed to the end.
+     */
+    private static Instant replayJournal(AddressBook addressBook, Path journalFilePath, long snapshotChecksum) {
+        if (!Files.exists(journalFilePath)) {
+            return null;
+        }
+
+        String[] lines;
+        try {
+            lines = new String(Files.readAllBytes(journalFilePath), CHARSET).split("\n");
+        } catch (IOException e) {
+            logger.warning("Error reading from journal " + journalFilePath + ": " + e);
+            return null;
+        }
+
+        Instant startTime = parseJournalHeader(lines[0], snapshotChecksum);
+        if (startTime == null) {
+            logger.info("Ignoring journal " + journalFilePath + " as it does not match its snapshot.");
+            return null;
+        }
+
+        for (int i = 1; i < lines.length; i++) {
+            try {
+                JsonUtil.fromJsonString(lines[i], JsonAdaptedAddressBookChange.class).toModelType()
+                        .applyTo(addressBook);
+            } catch (IOException | IllegalValueException | RuntimeException e) {
+                logger.warning("Stopped replaying journal " + journalFilePath + " at line " + (i + 1) + ": " + e);
+                return null;
+            }
+        }
+
+        logger.info("Replayed " + (lines.length - 1) + " changes from journal " + journalFilePath);
+        return startTime;
+    }
+
+    /**
+     * Returns the start time recorded in the journal header {@code header},
+     * or null if it is not a header for the snapshot with checksum {@code snapshotChecksum}.
+     */
+    private static Instant parseJournalHeader(String header, long snapshotChecksum) {
+        if (!header.startsWith(JOURNAL_HEADER_PREFIX)) {
+            return null;
+        }
+
+        String[] fields = header.split(" ");
+        if (fields.length != 5) {
+            return null;
+        }
+
+        try {
+            if (Long.parseLong(fields[2], 16) != snapshotChecksum) {
+                return null;
+            }
+            return Instant.ofEpochMilli(Long.parseLong(fields[4]));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.AddressBookChange.Type;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.table.Table;
+import seedu.address.model.wedding.Wedding;
+
+/**
+ * Jackson-friendly version of {@link AddressBookChange}.
+ * Fields that the type of change does not use are left out of the JSON data.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedAddressBookChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Change's %s field is missing!";
+    public static final String INVALID_TYPE_MESSAGE = "Change's type is not recognised!";
+
+    private final String type;
+    private final String wedding;
+    private final String name;
+    private final JsonAdaptedPerson person;
+    private final Integer tableId;
+    private final Integer capacity;
+    private final Integer editedTableId;
+
+    /**
+     * Constructs a {@code JsonAdaptedAddressBookChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedAddressBookChange(@JsonProperty("type") String type,
+                                        @JsonProperty("wedding") String wedding,
+                                        @JsonProperty("name") String name,
+                                        @JsonProperty("person") JsonAdaptedPerson person,
+                                        @JsonProperty("tableId") Integer tableId,
+                                        @JsonProperty("capacity") Integer capacity,
+                                        @JsonProperty("editedTableId") Integer editedTableId) {
+        this.type = type;
+        this.wedding = wedding;
+        this.name = name;
+        this.person = person;
+        this.tableId = tableId;
+        this.capacity = capacity;
+        this.editedTableId = editedTableId;
+    }
+
+    /**
+     * Converts a given {@code AddressBookChange} into this class for Jackson use.
+     *
+     * @throws IllegalArgumentException if {@code source} is a reset, which cannot be recorded on its own.
+     */
+    public JsonAdaptedAddressBookChange(AddressBookChange source) {
+        if (source.requiresSnapshot()) {
+            throw new IllegalArgumentException("A reset cannot be recorded on its own");
+        }
+
+        Type sourceType = source.getType();
+        this.type = sourceType.name();
+        this.wedding = source.getWeddingName();
+        this.name = source.getPersonName() != null ? source.getPersonName().fullName : null;
+        this.person = source.getPerson() != null ? new JsonAdaptedPerson(source.getPerson()) : null;
+        this.tableId = usesTableId(sourceType) ? source.getTableId() : null;
+        this.capacity = sourceType == Type.ADD_TABLE || sourceType == Type.SET_TABLE ? source.getCapacity() : null;
+        this.editedTableId = sourceType == Type.SET_TABLE ? source.getEditedTableId() : null;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change object into the model's {@code AddressBookChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public AddressBookChange toModelType() throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+        if (wedding == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "wedding"));
+        }
+
+        Type modelType;
+        try {
+            modelType = Type.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(INVALID_TYPE_MESSAGE);
+        }
+
+        switch (modelType) {
+        case ADD_WEDDING:
+            return AddressBookChange.addWedding(new Wedding(wedding));
+        case DELETE_WEDDING:
+            return AddressBookChange.deleteWedding(wedding);
+        case ADD_PERSON:
+            return AddressBookChange.addPerson(wedding, toModelPerson());
+        case DELETE_PERSON:
+            return AddressBookChange.deletePerson(wedding, toModelName());
+        case SET_PERSON:
+            return AddressBookChange.setPerson(wedding, toModelName(), toModelPerson());
+        case ADD_TABLE:
+            return AddressBookChange.addTable(wedding, toModelTable());
+        case DELETE_TABLE:
+            return AddressBookChange.deleteTable(wedding, toModelTableId());
+        case SET_TABLE:
+            return AddressBookChange.setTable(wedding, toModelTableId(), toModelEditedTable());
+        case ADD_PERSON_TO_TABLE:
+            return AddressBookChange.addPersonToTable(wedding, toModelName(), toModelTableId());
+        case DELETE_PERSON_FROM_TABLE:
+            return AddressBookChange.deletePersonFromTable(wedding, toModelName(), toModelTableId());
+        case SET_CURRENT_WEDDING:
+            return AddressBookChange.setCurrentWedding(wedding);
+        default:
+            throw new IllegalValueException(INVALID_TYPE_MESSAGE);
+        }
+    }
+
+    private static boolean usesTableId(Type type) {
+        return type == Type.ADD_TABLE || type == Type.DELETE_TABLE || type == Type.SET_TABLE
+                || type == Type.ADD_PERSON_TO_TABLE || type == Type.DELETE_PERSON_FROM_TABLE;
+    }
+
+    private Name toModelName() throws IllegalValueException {
+        if (name == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
+        }
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return new Name(name);
+    }
+
+    private Person toModelPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+        return person.toModelType();
+    }
+
+    private int toModelTableId() throws IllegalValueException {
+        if (tableId == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "tableId"));
+        }
+        return tableId;
+    }
+
+    private Table toModelTable() throws IllegalValueException {
+        if (capacity == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "capacity"));
+        }
+        try {
+            return new Table(toModelTableId(), capacity);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private Table toModelEditedTable() throws IllegalValueException {
+        if (editedTableId == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "editedTableId"));
+        }
+        if (capacity == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "capacity"));
+        }
+        try {
+            return new Table(editedTableId, capacity);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+}
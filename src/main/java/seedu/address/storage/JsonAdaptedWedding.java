@@ -9,6 +9,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Person;
+import seedu.address.model.table.Table;
 import seedu.address.model.wedding.Wedding;
 
 class JsonAdaptedWedding {
@@ -42,27 +43,27 @@ class JsonAdaptedWedding {
     }
 
     public Wedding toModelType() throws IllegalValueException {
-        Wedding wedding = new Wedding(name);
-
-        // Restore tables
+        List<Table> modelTables = new ArrayList<>();
         for (JsonAdaptedTable jTable : tables) {
-            wedding.getTableList().addTable(jTable.toModelType());
+            modelTables.add(jTable.toModelType());
         }
 
-        // Restore guests
+        List<Person> modelGuests = new ArrayList<>();
         for (JsonAdaptedPerson jGuest : guests) {
-            Person person = jGuest.toModelType();
-            Person newPerson = new Person(person, -1);
-            int tId = person.getTableId();
-
-            if (tId > -1) {
-                wedding.addPerson(newPerson);
-                wedding.addPersonToTableById(newPerson, tId);
-            } else {
-                wedding.addPerson(person);
-            }
+            modelGuests.add(jGuest.toModelType());
         }
 
-        return wedding;
+        return toModelType(name, modelTables, modelGuests);
+    }
+
+    /**
+     * Returns a wedding named {@code name} with the given tables and guests, seating each guest at the table
+     * given by their table ID.
+     */
+    static Wedding toModelType(String name, List<Table> tables, List<Person> guests) {
+        return new Wedding.Builder(name)
+                .withTables(tables)
+                .withGuests(guests)
+                .build();
     }
 }
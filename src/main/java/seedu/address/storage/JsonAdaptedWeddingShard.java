@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly entry of an address book manifest, pointing at the file that holds one wedding.
+ */
+class JsonAdaptedWeddingShard {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Wedding shard's %s field is missing!";
+
+    private final String name;
+    private final String file;
+    private final String checksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedWeddingShard} with the given shard details.
+     */
+    @JsonCreator
+    public JsonAdaptedWeddingShard(@JsonProperty("name") String name,
+                                   @JsonProperty("file") String file,
+                                   @JsonProperty("checksum") String checksum) {
+        this.name = name;
+        this.file = file;
+        this.checksum = checksum;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Throws an {@code IllegalValueException} if any field of this entry is missing.
+     */
+    public void checkFieldsPresent() throws IllegalValueException {
+        if (name == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "name"));
+        }
+        if (file == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "file"));
+        }
+        if (checksum == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "checksum"));
+        }
+    }
+}
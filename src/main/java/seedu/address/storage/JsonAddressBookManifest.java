@@ -0,0 +1,40 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly index of an address book whose weddings are stored in separate files.
+ * Holds the wedding list, in order, and the name of the current wedding.
+ */
+class JsonAddressBookManifest {
+
+    private final List<JsonAdaptedWeddingShard> shards;
+    private final String currentWedding;
+
+    /**
+     * Constructs a {@code JsonAddressBookManifest} with the given shards and current wedding.
+     */
+    @JsonCreator
+    public JsonAddressBookManifest(@JsonProperty("shards") List<JsonAdaptedWeddingShard> shards,
+                                   @JsonProperty("currentWedding") String currentWedding) {
+        this.shards = shards;
+        this.currentWedding = currentWedding;
+    }
+
+    /**
+     * Returns the shards of the weddings, or null if the file read was not a manifest.
+     */
+    public List<JsonAdaptedWeddingShard> getShards() {
+        return shards;
+    }
+
+    /**
+     * Returns the name of the current wedding, or null if there was none.
+     */
+    public String getCurrentWedding() {
+        return currentWedding;
+    }
+}
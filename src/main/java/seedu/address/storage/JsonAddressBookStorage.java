@@ -2,7 +2,12 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -11,11 +16,11 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is written and read as a stream of json tokens, so the whole json text is never held in memory.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
@@ -45,14 +50,16 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        logger.info("JSON file " + filePath + " found.");
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return Optional.of(JsonStreamingSerializer.readAddressBook(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.severe(ive.toString());
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
@@ -75,7 +82,9 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(filePath))) {
+            JsonStreamingSerializer.writeAddressBook(addressBook, out);
+        }
     }
 
 
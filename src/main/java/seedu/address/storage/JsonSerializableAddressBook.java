@@ -55,9 +55,12 @@ class JsonSerializableAddressBook {
             addressBook.deleteWedding(wedding);
         }
 
-        // Add all weddings from JSON
+        // Convert weddings in parallel, then add them in the order they appear in the JSON
+        ParallelWeddingConverter converter = new ParallelWeddingConverter();
         for (JsonAdaptedWedding jsonAdaptedWedding : weddings) {
-            Wedding wedding = jsonAdaptedWedding.toModelType();
+            converter.submit(jsonAdaptedWedding::toModelType);
+        }
+        for (Wedding wedding : converter.finish()) {
             if (addressBook.hasWedding(wedding)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_WEDDING);
             }
@@ -0,0 +1,321 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.table.Table;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.wedding.Wedding;
+
+/**
+ * Writes and reads AddressBook data as json one token at a time, in the same format as
+ * {@link JsonSerializableAddressBook} and {@link JsonAdaptedWedding}.
+ * <p>
+ * Weddings, guests and tables are written directly to the stream, without first building Jackson-friendly objects
+ * or the whole json text. When reading, each wedding is converted to the model's {@code Wedding} in parallel with
+ * reading the next ones, and only the few weddings waiting to be converted are held as Jackson-friendly objects, so
+ * the memory used beyond the address book itself does not grow with the size of the data.
+ * </p>
+ */
+class JsonStreamingSerializer {
+
+    private static final JsonFactory jsonFactory = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+
+    private JsonStreamingSerializer() {}
+
+    /**
+     * Writes all weddings of {@code addressBook} to {@code out}.
+     * {@code out} is flushed but not closed.
+     */
+    static void writeAddressBook(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        requireNonNull(addressBook);
+
+        try (JsonGenerator generator = createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("weddings");
+            for (Wedding wedding : addressBook.getWeddingList()) {
+                writeWedding(wedding, generator);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes {@code wedding} to {@code out}.
+     * {@code out} is flushed but not closed.
+     */
+    static void writeWedding(Wedding wedding, OutputStream out) throws IOException {
+        requireNonNull(wedding);
+
+        try (JsonGenerator generator = createGenerator(out)) {
+            writeWedding(wedding, generator);
+        }
+    }
+
+    /**
+     * Reads an address book written by {@link #writeAddressBook} from {@code in}.
+     * {@code in} is not closed.
+     *
+     * @throws IOException if {@code in} does not hold an address book in json.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook readAddressBook(InputStream in) throws IOException, IllegalValueException {
+        try (JsonParser parser = createParser(in)) {
+            ParallelWeddingConverter converter = new ParallelWeddingConverter();
+            try {
+                readWeddings(parser, converter);
+            } catch (IOException e) {
+                // A wedding before the part that could not be read may have failed first
+                converter.finish();
+                throw e;
+            }
+
+            AddressBook addressBook = new AddressBook();
+            for (Wedding wedding : converter.finish()) {
+                if (addressBook.hasWedding(wedding)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_WEDDING);
+                }
+                addressBook.addWedding(wedding);
+            }
+            return addressBook;
+        }
+    }
+
+    /**
+     * Reads a wedding written by {@link #writeWedding(Wedding, OutputStream)} from {@code in}.
+     * {@code in} is not closed.
+     *
+     * @throws IOException if {@code in} does not hold a wedding in json.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static Wedding readWedding(InputStream in) throws IOException, IllegalValueException {
+        try (JsonParser parser = createParser(in)) {
+            parser.nextToken();
+            return readWedding(parser).toModelType();
+        }
+    }
+
+    /**
+     * Reads the weddings of the address book that starts at the next token of {@code parser}, and submits each
+     * one to {@code converter} as soon as it is read.
+     */
+    private static void readWeddings(JsonParser parser, ParallelWeddingConverter converter)
+            throws IOException, IllegalValueException {
+        expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!field.equals("weddings") || value == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+
+            expect(parser, value, JsonToken.START_ARRAY);
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                converter.submit(readWedding(parser)::toModelType);
+            }
+        }
+    }
+
+    private static JsonGenerator createGenerator(OutputStream out) throws IOException {
+        requireNonNull(out);
+        return jsonFactory.createGenerator(out, JsonEncoding.UTF8).useDefaultPrettyPrinter();
+    }
+
+    private static JsonParser createParser(InputStream in) throws IOException {
+        requireNonNull(in);
+        return jsonFactory.createParser(in);
+    }
+
+    /**
+     * Writes {@code wedding}, with its tables before its guests.
+     */
+    private static void writeWedding(Wedding wedding, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", wedding.getName());
+
+        generator.writeArrayFieldStart("tables");
+        for (Table table : wedding.getTableList().asUnmodifiableObservableList()) {
+            generator.writeStartObject();
+            generator.writeNumberField("tableId", table.getTableId());
+            generator.writeNumberField("capacity", table.getCapacity());
+            generator.writeArrayFieldStart("guests");
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart("guests");
+        for (Person person : wedding.getUniquePersonList().asUnmodifiableObservableList()) {
+            writePerson(person, generator);
+        }
+        generator.writeEndArray();
+
+        generator.writeEndObject();
+    }
+
+    private static void writePerson(Person person, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", person.getName().fullName);
+        generator.writeStringField("phone", person.getPhone().value);
+        generator.writeStringField("email", person.getEmail().value);
+        generator.writeStringField("address", person.getAddress().value);
+        generator.writeArrayFieldStart("tags");
+        for (Tag tag : person.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+        generator.writeStringField("dietaryRestriction", person.getDietaryRestriction().toString());
+        generator.writeStringField("rsvp", person.getRsvp().toString());
+        generator.writeStringField("table", person.getTableIdString());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads the wedding starting at the current token of {@code parser}.
+     * Fields may come in any order, as in files written by {@link JsonAdaptedWedding}. The values read are checked
+     * when the wedding is converted to the model's {@code Wedding}.
+     */
+    private static JsonAdaptedWedding readWedding(JsonParser parser) throws IOException {
+        expect(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+
+        String name = null;
+        List<JsonAdaptedTable> tables = new ArrayList<>();
+        List<JsonAdaptedPerson> guests = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (field.equals("name")) {
+                name = readString(parser);
+            } else if (field.equals("tables") && value != JsonToken.VALUE_NULL) {
+                expect(parser, value, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    tables.add(readTable(parser));
+                }
+            } else if (field.equals("guests") && value != JsonToken.VALUE_NULL) {
+                expect(parser, value, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    guests.add(readPerson(parser));
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return new JsonAdaptedWedding(name, guests, tables);
+    }
+
+    private static JsonAdaptedTable readTable(JsonParser parser) throws IOException {
+        expect(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+
+        int tableId = 0;
+        int capacity = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if (field.equals("tableId")) {
+                tableId = readInt(parser);
+            } else if (field.equals("capacity")) {
+                capacity = readInt(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return new JsonAdaptedTable(tableId, capacity);
+    }
+
+    private static JsonAdaptedPerson readPerson(JsonParser parser) throws IOException {
+        expect(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+
+        String name = null;
+        String phone = null;
+        String email = null;
+        String address = null;
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        String dietaryRestriction = null;
+        String rsvp = null;
+        String table = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+            case "name":
+                name = readString(parser);
+                break;
+            case "phone":
+                phone = readString(parser);
+                break;
+            case "email":
+                email = readString(parser);
+                break;
+            case "address":
+                address = readString(parser);
+                break;
+            case "tags":
+                if (value != JsonToken.VALUE_NULL) {
+                    expect(parser, value, JsonToken.START_ARRAY);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        tags.add(new JsonAdaptedTag(readString(parser)));
+                    }
+                }
+                break;
+            case "dietaryRestriction":
+                dietaryRestriction = readString(parser);
+                break;
+            case "rsvp":
+                rsvp = readString(parser);
+                break;
+            case "table":
+                table = readString(parser);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+
+        return new JsonAdaptedPerson(name, phone, email, address, tags, dietaryRestriction, rsvp, table);
+    }
+
+    private static String readString(JsonParser parser) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw new JsonParseException(parser, "Expected a value but found " + token);
+        }
+        return parser.getValueAsString();
+    }
+
+    private static int readInt(JsonParser parser) throws IOException {
+        // Other values, such as strings, booleans and decimals, must not be coerced into a table ID or capacity
+        expect(parser, parser.getCurrentToken(), JsonToken.VALUE_NUMBER_INT);
+        return parser.getIntValue();
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.wedding.Wedding;
+
+/**
+ * Converts weddings read from storage into model weddings on the common fork-join pool, while the caller goes on
+ * reading the weddings after them.
+ * <p>
+ * Weddings are returned in the order they were submitted, and if several conversions fail, the failure of the first
+ * wedding submitted is reported, whichever conversion finished first. Only a few conversions are pending at a time,
+ * so the weddings waiting to be converted do not take up memory in proportion to the whole file.
+ * </p>
+ */
+class ParallelWeddingConverter {
+
+    /**
+     * Converts one wedding read from storage.
+     */
+    @FunctionalInterface
+    interface WeddingConversion {
+        Wedding convert() throws IllegalValueException;
+    }
+
+    private static final int MAX_PENDING_CONVERSIONS = 2 * ForkJoinPool.getCommonPoolParallelism() + 1;
+
+    private final Deque<PendingConversion> pendingConversions = new ArrayDeque<>();
+    private final List<Wedding> weddings = new ArrayList<>();
+
+    /**
+     * Starts converting a wedding, after waiting for the oldest pending conversion if too many are pending.
+     *
+     * @throws IllegalValueException if a wedding submitted earlier could not be converted.
+     */
+    void submit(WeddingConversion conversion) throws IllegalValueException {
+        requireNonNull(conversion);
+        if (pendingConversions.size() >= MAX_PENDING_CONVERSIONS) {
+            collectOldest();
+        }
+
+        PendingConversion pendingConversion = new PendingConversion(conversion);
+        pendingConversion.task = ForkJoinPool.commonPool().submit(pendingConversion::run);
+        pendingConversions.add(pendingConversion);
+    }
+
+    /**
+     * Waits for all pending conversions, and returns the converted weddings in the order they were submitted.
+     *
+     * @throws IllegalValueException if a wedding could not be converted.
+     */
+    List<Wedding> finish() throws IllegalValueException {
+        while (!pendingConversions.isEmpty()) {
+            collectOldest();
+        }
+        return weddings;
+    }
+
+    private void collectOldest() throws IllegalValueException {
+        PendingConversion oldest = pendingConversions.remove();
+        oldest.task.join();
+        if (oldest.failure != null) {
+            // Later conversions are of no use once one has failed
+            pendingConversions.forEach(pending -> pending.task.cancel(false));
+            pendingConversions.clear();
+            if (oldest.failure instanceof IllegalValueException) {
+                throw (IllegalValueException) oldest.failure;
+            }
+            throw (RuntimeException) oldest.failure;
+        }
+        weddings.add(oldest.wedding);
+    }
+
+    /**
+     * A conversion that has been started, with its result once it is done.
+     */
+    private static class PendingConversion {
+        private WeddingConversion conversion;
+        private ForkJoinTask<?> task;
+        private Wedding wedding;
+        private Exception failure;
+
+        PendingConversion(WeddingConversion conversion) {
+            this.conversion = conversion;
+        }
+
+        void run() {
+            try {
+                wedding = conversion.convert();
+            } catch (IllegalValueException | RuntimeException e) {
+                failure = e;
+            } finally {
+                // Lets the data read from storage be collected as soon as the wedding is converted
+                conversion = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,445 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingLoader;
+import seedu.address.model.wedding.exceptions.WeddingLoadingException;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as one json file per wedding.
+ * <p>
+ * The data file holds a small manifest with the wedding list and the current wedding, and each wedding is stored in
+ * its own shard file in a directory next to the data file. Shard files are named after a checksum of their contents,
+ * so saving only writes the shards of the weddings that changed, and the shards of the previous save stay intact
+ * until the new manifest replaces the old one in a single step. The shard of a wedding whose version was last read
+ * or written by this storage is kept without writing the wedding out again, so saving takes time in proportion to
+ * the weddings changed since then rather than to all weddings in memory. Only the shard of the current wedding is
+ * read when the data file is loaded, and the other shards are read the first time their weddings are needed. Shards
+ * are read as streams of json tokens rather than whole json strings, and a changed wedding is written out once into
+ * a buffer that both the checksum and the file of its shard are made from.
+ * </p>
+ * <p>
+ * Data files written before weddings were sharded hold all weddings themselves, and can still be read.
+ * </p>
+ */
+public class ShardedAddressBookStorage implements SnapshotStorage {
+
+    public static final String MESSAGE_CORRUPTED_SHARD = "Wedding shard %s does not match its checksum.";
+    public static final String MESSAGE_INVALID_SHARD_FILE = "Wedding shard %s is not in the wedding directory.";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+    private static final Charset CHARSET = StandardCharsets.UTF_8;
+    private static final String SHARD_FILE_EXTENSION = ".json";
+    private static final int MAX_SHARD_NAME_LENGTH = 40;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path filePath;
+
+    // The shards of the weddings last read or written, by wedding version, and the directory holding them
+    private Map<Long, JsonAdaptedWeddingShard> knownShards = new HashMap<>();
+    private Path knownShardDirectory;
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the directory holding the wedding shards of the data file at {@code filePath}.
+     */
+    public static Path getShardDirectoryPath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + "-weddings");
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readSnapshot(filePath).map(Snapshot::getAddressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        writeSnapshot(addressBook, filePath);
+    }
+
+    /**
+     * {@inheritDoc}
+     * A data file in the binary format is read with {@link BinaryAddressBookStorage}, so that it is converted to
+     * json the next time the address book is saved.
+     */
+    @Override
+    public synchronized Optional<Snapshot> readSnapshot(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+            logger.info("Data file " + filePath + " is in the binary format, reading it for conversion to json.");
+            return new BinaryAddressBookStorage(filePath).readSnapshot(filePath);
+        }
+        logger.info("Data file " + filePath + " found.");
+
+        try {
+            byte[] bytes = Files.readAllBytes(filePath);
+            String json = new String(bytes, CHARSET);
+            JsonAddressBookManifest manifest = JsonUtil.fromJsonString(json, JsonAddressBookManifest.class);
+
+            AddressBook addressBook;
+            if (manifest.getShards() != null) {
+                Path shardDirectory = getShardDirectoryPath(filePath);
+                Map<Long, JsonAdaptedWeddingShard> shardsRead = new HashMap<>();
+                addressBook = readShards(manifest, shardDirectory, shardsRead);
+                setKnownShards(shardsRead, shardDirectory);
+            } else {
+                // A data file from before weddings were sharded
+                addressBook = JsonStreamingSerializer.readAddressBook(new ByteArrayInputStream(bytes));
+            }
+            return Optional.of(new Snapshot(addressBook, getChecksum(bytes)));
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.severe(ive.toString());
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (WeddingLoadingException wle) {
+            throw new DataLoadingException(wle);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Only the shards of the weddings that changed are written.
+     */
+    @Override
+    public synchronized long writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Path shardDirectory = getShardDirectoryPath(filePath);
+        Files.createDirectories(shardDirectory);
+
+        List<JsonAdaptedWeddingShard> shards = new ArrayList<>();
+        Set<String> shardFiles = new HashSet<>();
+        Map<Long, JsonAdaptedWeddingShard> shardsWritten = new HashMap<>();
+        int writtenShardCount = 0;
+        for (Wedding wedding : addressBook.getWeddingList()) {
+            // A wedding that was never loaded or has not changed since its shard was last read or written is kept
+            // as it is, without writing it out again to find the checksum of its shard
+            JsonAdaptedWeddingShard shard = getUnloadedShard(wedding, shardDirectory);
+            if (shard == null) {
+                shard = getKnownShard(wedding, shardDirectory);
+            }
+
+            if (shard == null) {
+                byte[] contents = serializeShard(wedding);
+                String checksum = Long.toHexString(getChecksum(contents));
+                String shardFile = getShardFileName(wedding, checksum);
+
+                // A shard file is named after its contents, so an existing one already holds the wedding as it is
+                Path shardPath = shardDirectory.resolve(shardFile);
+                if (!Files.exists(shardPath)) {
+                    writeShard(contents, shardPath);
+                    writtenShardCount++;
+                }
+                shard = new JsonAdaptedWeddingShard(wedding.getName(), shardFile, checksum);
+            }
+
+            shards.add(shard);
+            shardFiles.add(shard.getFile());
+            shardsWritten.put(wedding.getVersion(), shard);
+        }
+
+        String currentWedding = addressBook.hasCurrentWedding() ? addressBook.getCurrentWedding().getName() : null;
+        byte[] manifest = JsonUtil.toJsonString(new JsonAddressBookManifest(shards, currentWedding)).getBytes(CHARSET);
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFileAtomically(filePath, manifest);
+        logger.fine("Wrote " + writtenShardCount + " of " + shards.size() + " wedding shards of " + filePath);
+
+        setKnownShards(shardsWritten, shardDirectory);
+        deleteUnusedShards(shardDirectory, shardFiles);
+        return getChecksum(manifest);
+    }
+
+    /**
+     * Returns the shard in {@code shardDirectory} that was last read or written for the version of {@code wedding},
+     * or null if there is none or its file is gone.
+     */
+    private JsonAdaptedWeddingShard getKnownShard(Wedding wedding, Path shardDirectory) {
+        if (!shardDirectory.normalize().equals(knownShardDirectory)) {
+            return null;
+        }
+        JsonAdaptedWeddingShard shard = knownShards.get(wedding.getVersion());
+        if (shard == null || !Files.exists(shardDirectory.resolve(shard.getFile()))) {
+            return null;
+        }
+        return shard;
+    }
+
+    private void setKnownShards(Map<Long, JsonAdaptedWeddingShard> shards, Path shardDirectory) {
+        knownShards = shards;
+        knownShardDirectory = shardDirectory.normalize();
+    }
+
+    /**
+     * Adds the weddings listed in {@code manifest} to a new address book in the order listed.
+     * Only the current wedding is read now. The other weddings are read from their shards the first time they are
+     * needed, so loading takes time and memory in proportion to the current wedding rather than to all weddings.
+     * The shard of each wedding is put in {@code shardsRead} by the version of the wedding.
+     *
+     * @throws WeddingLoadingException if the current wedding could not be read.
+     */
+    private static AddressBook readShards(JsonAddressBookManifest manifest, Path shardDirectory,
+            Map<Long, JsonAdaptedWeddingShard> shardsRead) throws IOException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        for (JsonAdaptedWeddingShard shard : manifest.getShards()) {
+            Wedding wedding = new Wedding(shard.getName(), new ShardLoader(shard, shardDirectory));
+            if (addressBook.hasWedding(wedding)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_WEDDING);
+            }
+            addressBook.addWedding(wedding);
+            shardsRead.put(wedding.getVersion(), shard);
+        }
+
+        String currentWedding = manifest.getCurrentWedding();
+        if (currentWedding != null && addressBook.getWeddingByName(currentWedding) != null) {
+            addressBook.setCurrentWeddingByName(currentWedding);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the shard in {@code shardDirectory} that {@code wedding} was read from, or null if the wedding has
+     * been loaded since or was not read from there.
+     */
+    private static JsonAdaptedWeddingShard getUnloadedShard(Wedding wedding, Path shardDirectory) {
+        WeddingLoader loader = wedding.getLoader();
+        if (!(loader instanceof ShardLoader)) {
+            return null;
+        }
+        ShardLoader shardLoader = (ShardLoader) loader;
+        return shardLoader.shardDirectory.equals(shardDirectory.normalize()) ? shardLoader.shard : null;
+    }
+
+    /**
+     * Returns the path of the file of {@code shard} in {@code shardDirectory}.
+     *
+     * @throws IllegalValueException if the entry is incomplete, or names a file outside {@code shardDirectory}.
+     */
+    private static Path getShardPath(JsonAdaptedWeddingShard shard, Path shardDirectory)
+            throws IllegalValueException {
+        shard.checkFieldsPresent();
+
+        Path shardPath = shardDirectory.resolve(shard.getFile()).normalize();
+        if (!shardDirectory.normalize().equals(shardPath.getParent())) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_SHARD_FILE, shard.getFile()));
+        }
+        return shardPath;
+    }
+
+    private static Wedding readShard(JsonAdaptedWeddingShard shard, Path shardDirectory)
+            throws IOException, IllegalValueException {
+        Path shardPath = getShardPath(shard, shardDirectory);
+        CRC32 checksum = new CRC32();
+        try (InputStream in = new CheckedInputStream(new BufferedInputStream(Files.newInputStream(shardPath),
+                BUFFER_SIZE), checksum)) {
+            Wedding wedding;
+            try {
+                wedding = JsonStreamingSerializer.readWedding(in);
+            } catch (IOException | IllegalValueException | RuntimeException e) {
+                // A shard that does not match its checksum is reported as corrupted rather than as invalid data
+                skipRemaining(in);
+                checkShardChecksum(shard, checksum);
+                throw e;
+            }
+            skipRemaining(in);
+            checkShardChecksum(shard, checksum);
+            return wedding;
+        }
+    }
+
+    private static void checkShardChecksum(JsonAdaptedWeddingShard shard, CRC32 checksum)
+            throws IllegalValueException {
+        if (!Long.toHexString(checksum.getValue()).equals(shard.getChecksum())) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_SHARD, shard.getFile()));
+        }
+    }
+
+    /**
+     * Reads {@code in} to the end, so that the checksum of a {@code CheckedInputStream} covers the whole file.
+     */
+    private static void skipRemaining(InputStream in) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        while (in.read(buffer) != -1) {
+            // Only the checksum of the bytes is needed
+        }
+    }
+
+    /**
+     * Returns the contents of the shard holding {@code wedding}, so that its checksum and its file are made from the
+     * same bytes without writing the wedding out twice.
+     */
+    private static byte[] serializeShard(Wedding wedding) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(BUFFER_SIZE);
+        JsonStreamingSerializer.writeWedding(wedding, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Writes {@code contents} to a temporary file and forces it to disk before moving it to {@code shardPath}, so a
+     * shard file never holds only part of a wedding.
+     */
+    private static void writeShard(byte[] contents, Path shardPath) throws IOException {
+        Path tempPath = shardPath.resolveSibling(shardPath.getFileName() + ".tmp");
+        try (FileOutputStream file = new FileOutputStream(tempPath.toFile())) {
+            file.write(contents);
+            file.getFD().sync();
+        }
+        FileUtil.moveAtomically(tempPath, shardPath);
+    }
+
+    /**
+     * Deletes the files in {@code shardDirectory} other than {@code shardFiles}, which are left over from earlier
+     * saves.
+     */
+    private static void deleteUnusedShards(Path shardDirectory, Set<String> shardFiles) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardDirectory)) {
+            for (Path file : files) {
+                if (!shardFiles.contains(file.getFileName().toString())) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error deleting unused wedding shards in " + shardDirectory + ": " + e);
+        }
+    }
+
+    /**
+     * Returns the name of the shard file holding {@code wedding} with contents whose checksum is {@code checksum}.
+     */
+    private static String getShardFileName(Wedding wedding, String checksum) {
+        String name = wedding.getNameLower().replaceAll("[^a-z0-9]+", "-").replaceAll("^-|-$", "");
+        if (name.length() > MAX_SHARD_NAME_LENGTH) {
+            name = name.substring(0, MAX_SHARD_NAME_LENGTH);
+        }
+        return (name.isEmpty() ? "wedding" : name) + "-" + checksum + SHARD_FILE_EXTENSION;
+    }
+
+    static long getChecksum(byte[] bytes) {
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes);
+        return checksum.getValue();
+    }
+
+    /**
+     * Reads a wedding from its shard file the first time it is needed.
+     */
+    private static class ShardLoader implements WeddingLoader {
+        private final JsonAdaptedWeddingShard shard;
+        private final Path shardDirectory;
+
+        /**
+         * Creates a {@code ShardLoader} for {@code shard}, after checking that its file exists.
+         */
+        ShardLoader(JsonAdaptedWeddingShard shard, Path shardDirectory) throws IOException, IllegalValueException {
+            Path shardPath = getShardPath(shard, shardDirectory);
+            if (!Files.exists(shardPath)) {
+                throw new NoSuchFileException(shardPath.toString());
+            }
+            this.shard = shard;
+            this.shardDirectory = shardDirectory.normalize();
+        }
+
+        @Override
+        public Wedding load() {
+            try {
+                return readShard(shard, shardDirectory);
+            } catch (IOException | IllegalValueException | RuntimeException e) {
+                logger.warning("Error reading wedding shard " + shard.getFile() + ": " + e);
+                throw new WeddingLoadingException(e.getMessage() != null ? e.getMessage() : e.toString(), e);
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof ShardLoader)) {
+                return false;
+            }
+
+            ShardLoader otherLoader = (ShardLoader) other;
+            return shardDirectory.equals(otherLoader.shardDirectory)
+                    && shard.getFile().equals(otherLoader.shard.getFile())
+                    && shard.getChecksum().equals(otherLoader.shard.getChecksum());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(shardDirectory, shard.getFile(), shard.getChecksum());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that identifies each data file it writes with a checksum, so that other files can
+ * refer to the exact version of the data they apply to.
+ */
+interface SnapshotStorage extends AddressBookStorage {
+
+    /**
+     * Reads the address book stored at {@code filePath}, together with the checksum of its data file.
+     * Returns {@code Optional.empty()} if the data file is not found.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    Optional<Snapshot> readSnapshot(Path filePath) throws DataLoadingException;
+
+    /**
+     * Saves {@code addressBook} at {@code filePath}, replacing the data stored there in a single step.
+     *
+     * @return The checksum of the data file written.
+     * @throws IOException if there was any problem writing to the files.
+     */
+    long writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
+
+    /**
+     * An address book read from storage, with a checksum that identifies the data file it was read from.
+     */
+    class Snapshot {
+        private final AddressBook addressBook;
+        private final long checksum;
+
+        Snapshot(AddressBook addressBook, long checksum) {
+            this.addressBook = addressBook;
+            this.checksum = checksum;
+        }
+
+        AddressBook getAddressBook() {
+            return addressBook;
+        }
+
+        long getChecksum() {
+            return checksum;
+        }
+    }
+}
@@ -2,9 +2,12 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -29,4 +32,29 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Saves the {@code changes} made to the address book since it was last saved.
+     * Storages that keep a journal record only the changes, and the others save the whole address book.
+     *
+     * @param addressBook The address book after the changes, such as a snapshot from
+     *     {@link seedu.address.model.Model#getAddressBookSnapshot()}, which is written behind as it is. Cannot be
+     *     null.
+     * @param changes The changes, in the order they were made. Cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes) throws IOException;
+
+    /**
+     * Waits until every address book saved so far has been written to its data file.
+     *
+     * @throws IOException if writing a pending address book fails
+     */
+    void flushAddressBook() throws IOException;
+
+    /**
+     * Sets the handler notified when writing an address book in the background fails.
+     * The handler is called on the thread that did the write.
+     */
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler);
+
 }
@@ -2,30 +2,97 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * <p>
+ * Address books can either be saved right away, or written behind on a background thread. When written behind,
+ * saving only takes a snapshot of the address book, and all snapshots taken within the save delay are coalesced
+ * into a single write of the latest one.
+ * </p>
+ * <p>
+ * If the {@code AddressBookStorage} is also an {@link AddressBookJournal}, the changes made by each command are
+ * appended to the journal instead, and the whole address book is only saved when the journal is due for compaction.
+ * Appends and whole saves are written in the order they are made, so a journal never holds changes that are already
+ * in the snapshot it applies to. When written behind, each append also keeps a snapshot of the address book with
+ * its changes. If an append fails, that snapshot is kept pending instead, so the next flush saves the changes in
+ * full, and later changes are saved as whole address books until it is written.
+ * </p>
  */
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    /** The journal of the address book storage, or null if it does not keep one. */
+    private final AddressBookJournal addressBookJournal;
+
+    /** Runs the background writes, or null if address books are saved right away. */
+    private final ScheduledExecutorService saveExecutor;
+    private final long saveDelayMillis;
+    private Consumer<IOException> saveFailureHandler = unused -> { };
+
+    // The latest snapshot waiting to be written, guarded by this
+    private ReadOnlyAddressBook pendingAddressBook;
+    private Path pendingFilePath;
+    /** The number of the save that {@code pendingAddressBook} was taken for, as counted by {@code saveCount}. */
+    private long pendingSaveNumber;
+    private boolean isWriteScheduled;
+    /** True if an append failed and the journal misses changes until the pending snapshot is written. */
+    private boolean hasFailedAppend;
+    /** The number of saves and appends submitted to be written behind, guarded by this. */
+    private long saveCount;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}
+     * that saves address books right away.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.addressBookJournal = getJournal(addressBookStorage);
+        this.saveExecutor = null;
+        this.saveDelayMillis = 0;
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}
+     * that writes address books behind, at most {@code saveDelayMillis} milliseconds after they are saved.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            long saveDelayMillis) {
+        if (saveDelayMillis < 0) {
+            throw new IllegalArgumentException("The save delay should not be negative");
+        }
+
+        this.addressBookStorage = addressBookStorage;
+        this.userPrefsStorage = userPrefsStorage;
+        this.addressBookJournal = getJournal(addressBookStorage);
+        this.saveDelayMillis = saveDelayMillis;
+        this.saveExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     // ================ UserPrefs methods ==============================
@@ -71,8 +138,202 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (saveExecutor == null) {
+            logger.fine("Attempting to write to data file: " + filePath);
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        // Later changes to the address book must not leak into the write
+        AddressBookSnapshot snapshot = takeSnapshot(addressBook);
+        synchronized (this) {
+            pendingAddressBook = snapshot;
+            pendingFilePath = filePath;
+            pendingSaveNumber = ++saveCount;
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                saveExecutor.schedule(this::writePendingInBackground, saveDelayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes)
+            throws IOException {
+        if (!canAppend(changes)) {
+            saveAddressBook(addressBook);
+            return;
+        }
+
+        if (saveExecutor == null) {
+            logger.fine("Attempting to append " + changes.size() + " changes to the journal");
+            addressBookJournal.appendChanges(changes);
+            return;
+        }
+
+        // The snapshot is saved instead if the append fails, so the changes are not lost when the app exits
+        List<AddressBookChange> changesToAppend = new ArrayList<>(changes);
+        AddressBookSnapshot snapshot = takeSnapshot(addressBook);
+        long saveNumber;
+        synchronized (this) {
+            saveNumber = ++saveCount;
+        }
+        saveExecutor.execute(() -> appendInBackground(changesToAppend, snapshot, saveNumber));
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        if (saveExecutor == null) {
+            return;
+        }
+
+        // Runs after every write submitted before it, as there is only one saver thread
+        Future<?> flush = saveExecutor.submit(() -> {
+            writePending();
+            return null;
+        });
+        try {
+            flush.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving the data file", e);
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Returns a snapshot of {@code addressBook} to write behind.
+     * Snapshots are taken by the model, see {@link seedu.address.model.Model#getAddressBookSnapshot()}, so that all
+     * of its readers share the copies of the weddings that have not changed. Any other address book is copied whole.
+     */
+    private static AddressBookSnapshot takeSnapshot(ReadOnlyAddressBook addressBook) {
+        if (addressBook instanceof AddressBookSnapshot) {
+            // A snapshot never changes, so it can be written as it is
+            return (AddressBookSnapshot) addressBook;
+        }
+        return AddressBookSnapshot.of(addressBook, null);
+    }
+
+    /**
+     * Returns true if {@code changes} can be appended to the journal instead of saving the whole address book.
+     */
+    private boolean canAppend(List<AddressBookChange> changes) {
+        if (addressBookJournal == null || addressBookJournal.isCompactionDue()) {
+            return false;
+        }
+
+        synchronized (this) {
+            if (pendingAddressBook != null || hasFailedAppend) {
+                // The changes are on top of a snapshot that has not been written yet
+                return false;
+            }
+        }
+
+        return changes.stream().noneMatch(AddressBookChange::requiresSnapshot);
+    }
+
+    /**
+     * Appends {@code changes} to the journal, and reports a failure to the save failure handler.
+     * If the append fails, or an earlier one did and the journal misses changes, {@code snapshot}, which holds the
+     * address book with {@code changes}, is kept pending to be written in full instead.
+     */
+    private void appendInBackground(List<AddressBookChange> changes, AddressBookSnapshot snapshot, long saveNumber) {
+        synchronized (this) {
+            if (hasFailedAppend) {
+                keepPending(snapshot, saveNumber);
+                return;
+            }
+        }
+
+        try {
+            logger.fine("Attempting to append " + changes.size() + " changes to the journal");
+            addressBookJournal.appendChanges(changes);
+        } catch (IOException e) {
+            logger.warning("Failed to append to the journal: " + StringUtil.getDetails(e));
+            synchronized (this) {
+                hasFailedAppend = true;
+                keepPending(snapshot, saveNumber);
+            }
+            saveFailureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Keeps {@code snapshot} pending to be written, unless a snapshot of a later save is already pending.
+     */
+    private synchronized void keepPending(AddressBookSnapshot snapshot, long saveNumber) {
+        if (pendingAddressBook == null || pendingSaveNumber < saveNumber) {
+            pendingAddressBook = snapshot;
+            pendingFilePath = addressBookStorage.getAddressBookFilePath();
+            pendingSaveNumber = saveNumber;
+        }
+    }
+
+    /**
+     * Writes the pending snapshot, if any, and reports a failure to the save failure handler.
+     */
+    private void writePendingInBackground() {
+        try {
+            writePending();
+        } catch (IOException e) {
+            logger.warning("Failed to write to data file: " + StringUtil.getDetails(e));
+            saveFailureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Writes the pending snapshot, if any.
+     * If the write fails, the snapshot is kept pending unless a newer one was saved in the meantime, so that the
+     * next flush retries it.
+     */
+    private void writePending() throws IOException {
+        ReadOnlyAddressBook addressBook;
+        Path filePath;
+        long saveNumber;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            filePath = pendingFilePath;
+            saveNumber = pendingSaveNumber;
+            pendingAddressBook = null;
+            pendingFilePath = null;
+            isWriteScheduled = false;
+        }
+
+        if (addressBook == null) {
+            return;
+        }
+
+        try {
+            logger.fine("Attempting to write to data file: " + filePath);
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+        } catch (IOException e) {
+            synchronized (this) {
+                if (pendingAddressBook == null) {
+                    pendingAddressBook = addressBook;
+                    pendingFilePath = filePath;
+                    pendingSaveNumber = saveNumber;
+                }
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            // The journal starts again from the snapshot written, which holds the changes of the failed appends
+            hasFailedAppend = false;
+        }
+    }
+
+    private static AddressBookJournal getJournal(AddressBookStorage addressBookStorage) {
+        return addressBookStorage instanceof AddressBookJournal ? (AddressBookJournal) addressBookStorage : null;
     }
 
 }
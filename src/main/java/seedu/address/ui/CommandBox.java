@@ -1,12 +1,22 @@
 package seedu.address.ui;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -14,39 +24,103 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String IN_FLIGHT_STYLE_CLASS = "in-flight";
     private static final String FXML = "CommandBox.fxml";
 
+    /** Matches a name argument at the end of the command text, capturing the partially typed name. */
+    private static final Pattern NAME_ARGUMENT_AT_END =
+            Pattern.compile("(?:^|\\s)" + Pattern.quote(PREFIX_NAME.getPrefix()) + "([^/]*)$");
+
     private final CommandExecutor commandExecutor;
+    private final NameCompleter nameCompleter;
+    private final ContextMenu nameCompletions = new ContextMenu();
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code NameCompleter}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, NameCompleter nameCompleter) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.nameCompleter = nameCompleter;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // offers guest name completions whenever a name argument is being typed.
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> showNameCompletions(newText));
+        // pressing Tab accepts the first completion.
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, this::handleTabPressed);
     }
 
     /**
      * Handles the Enter button pressed event.
+     * The command box cannot be edited while the command is running, and shows that it is running.
      */
     @FXML
     private void handleCommandEntered() {
         String commandText = commandTextField.getText();
-        if (commandText.equals("")) {
+        if (commandText.equals("") || !commandTextField.isEditable()) {
+            return;
+        }
+
+        nameCompletions.hide();
+        setStyleToIndicateCommandInFlight(true);
+        commandExecutor.execute(commandText).whenComplete((unused, error) -> {
+            setStyleToIndicateCommandInFlight(false);
+            if (error != null) {
+                setStyleToIndicateCommandFailure();
+            } else {
+                commandTextField.setText("");
+            }
+        });
+    }
+
+    /**
+     * Shows the guest names that complete the name argument at the end of {@code commandText}, if any.
+     */
+    private void showNameCompletions(String commandText) {
+        Matcher matcher = NAME_ARGUMENT_AT_END.matcher(commandText);
+        if (!matcher.find() || matcher.group(1).isBlank()) {
+            nameCompletions.hide();
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        String partialName = matcher.group(1).stripLeading();
+        List<String> names = nameCompleter.getCompletions(partialName);
+        if (names.isEmpty() || (names.size() == 1 && names.get(0).equalsIgnoreCase(partialName))) {
+            nameCompletions.hide();
+            return;
+        }
+
+        String textBeforeName = commandText.substring(0, matcher.start(1));
+        nameCompletions.getItems().clear();
+        for (String name : names) {
+            MenuItem item = new MenuItem(name);
+            item.setOnAction(unused -> {
+                commandTextField.setText(textBeforeName + name);
+                commandTextField.positionCaret(commandTextField.getText().length());
+            });
+            nameCompletions.getItems().add(item);
+        }
+
+        if (!nameCompletions.isShowing()) {
+            nameCompletions.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    /**
+     * Accepts the first shown name completion when Tab is pressed.
+     */
+    private void handleTabPressed(KeyEvent event) {
+        if (event.getCode() != KeyCode.TAB || !nameCompletions.isShowing()
+                || nameCompletions.getItems().isEmpty()) {
+            return;
         }
+
+        nameCompletions.getItems().get(0).fire();
+        nameCompletions.hide();
+        event.consume();
     }
 
     /**
@@ -56,6 +130,19 @@ public class CommandBox extends UiPart<Region> {
         commandTextField.getStyleClass().remove(ERROR_STYLE_CLASS);
     }
 
+    /**
+     * Sets the command box style to indicate whether a command is running, and only allows editing when none is.
+     */
+    private void setStyleToIndicateCommandInFlight(boolean isInFlight) {
+        commandTextField.setEditable(!isInFlight);
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+        if (!isInFlight) {
+            styleClass.remove(IN_FLIGHT_STYLE_CLASS);
+        } else if (!styleClass.contains(IN_FLIGHT_STYLE_CLASS)) {
+            styleClass.add(IN_FLIGHT_STYLE_CLASS);
+        }
+    }
+
     /**
      * Sets the command box style to indicate a failed command.
      */
@@ -75,11 +162,25 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command, and returns its result.
+         * The result is completed on the JavaFX Application Thread, exceptionally if the command fails.
+         *
+         * @see seedu.address.logic.Logic#executeAsync(String)
+         */
+        CompletableFuture<CommandResult> execute(String commandText);
+    }
+
+    /**
+     * Represents a function that can complete partially typed guest names.
+     */
+    @FunctionalInterface
+    public interface NameCompleter {
+        /**
+         * Returns the guest names that start with {@code prefix}.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#getGuestNameCompletions(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        List<String> getCompletions(String prefix);
     }
 
 }
@@ -1,7 +1,10 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -14,8 +17,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.table.Table;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -118,19 +120,22 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        // Commands change the lists on a background thread, so the panels show copies changed on the UI thread
+        personListPanel = new PersonListPanel(UiThreadMirror.ofList(logic.getFilteredPersonList(),
+                UnaryOperator.identity()));
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-        tableListPanel = new TableListPanel(logic.getFilteredTableList());
+        tableListPanel = new TableListPanel(UiThreadMirror.ofList(logic.getFilteredTableList(), Table::new));
         tableListPanelPlaceholder.getChildren().add(tableListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getGuestNameCompletions);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         // Initialize wedding name with binding to model
@@ -199,13 +204,21 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command on a background thread, and shows its result on the UI thread once it is done.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @return the result of the command execution, completed on the UI thread after the result is shown.
+     * @see seedu.address.logic.Logic#executeAsync(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        CompletableFuture<CommandResult> shownResult = new CompletableFuture<>();
+        logic.executeAsync(commandText).whenComplete((commandResult, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                logger.info("An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(error.getMessage());
+                shownResult.completeExceptionally(error);
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -217,11 +230,8 @@ public class MainWindow extends UiPart<Stage> {
                 handleExit();
             }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+            shownResult.complete(commandResult);
+        }));
+        return shownResult;
     }
 }
@@ -1,15 +1,12 @@
 package seedu.address.ui;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import seedu.address.model.person.DietaryRestriction;
-import seedu.address.model.person.Person;
+import seedu.address.model.person.GuestCounts;
 import seedu.address.model.person.Rsvp;
 import seedu.address.model.table.Table;
 
@@ -73,24 +70,17 @@ public class TableCard extends UiPart<Region> {
     }
 
     /**
-     * Counts and displays the number of each dietary restriction among people at the table.
+     * Displays the number of each dietary restriction among people at the table.
      */
     private void displayDietaryRestrictionCounts() {
-        Map<String, Integer> restrictionCounts = new HashMap<>();
-
-        // Count dietary restrictions using the DietaryRestriction field
-        for (Person person : table.getAllPersons()) {
-            DietaryRestriction dietRestriction = person.getDietaryRestriction();
-            if (dietRestriction != null
-                &&
-                dietRestriction.getTypicalRestriction() != DietaryRestriction.TypicalRestriction.NONE) {
-                String restriction = dietRestriction.toString();
-                restrictionCounts.put(restriction, restrictionCounts.getOrDefault(restriction, 0) + 1);
+        GuestCounts guestCounts = table.getGuestCounts();
+
+        for (DietaryRestriction.TypicalRestriction restriction : DietaryRestriction.TypicalRestriction.values()) {
+            int count = guestCounts.getCount(restriction);
+            if (restriction == DietaryRestriction.TypicalRestriction.NONE || count == 0) {
+                continue;
             }
-        }
 
-        // Display the counts with button-like styling
-        restrictionCounts.forEach((restriction, count) -> {
             Label label = new Label(restriction + ": " + count);
 
             // Add common style class for all dietary restrictions
@@ -98,31 +88,31 @@ public class TableCard extends UiPart<Region> {
 
             // Add specific style class based on the type of restriction
             switch (restriction) {
-            case "VEGETARIAN":
+            case VEGETARIAN:
                 label.getStyleClass().add("vegetarian-restriction");
                 break;
-            case "VEGAN":
+            case VEGAN:
                 label.getStyleClass().add("vegan-restriction");
                 break;
-            case "HALAL":
+            case HALAL:
                 label.getStyleClass().add("halal-restriction");
                 break;
-            case "SHELLFISH":
+            case SHELLFISH:
                 label.getStyleClass().add("shellfish-restriction");
                 break;
-            case "PEANUTS":
+            case PEANUTS:
                 label.getStyleClass().add("peanuts-restriction");
                 break;
-            case "EGGS":
+            case EGGS:
                 label.getStyleClass().add("eggs-restriction");
                 break;
-            case "FISH":
+            case FISH:
                 label.getStyleClass().add("fish-restriction");
                 break;
-            case "SOY":
+            case SOY:
                 label.getStyleClass().add("soy-restriction");
                 break;
-            case "SESAME":
+            case SESAME:
                 label.getStyleClass().add("sesame-restriction");
                 break;
             default:
@@ -131,26 +121,21 @@ public class TableCard extends UiPart<Region> {
             }
 
             dietaryRestrictions.getChildren().add(label);
-        });
+        }
     }
 
     /**
-     * Counts and displays the number of each RSVP status among people at the table.
+     * Displays the number of each RSVP status among people at the table.
      */
     private void displayRsvpCounts() {
-        Map<String, Integer> rsvpStatusCounts = new HashMap<>();
-
-        // Count RSVP statuses
-        for (Person person : table.getAllPersons()) {
-            Rsvp rsvp = person.getRsvp();
-            if (rsvp != null) {
-                String status = rsvp.toString();
-                rsvpStatusCounts.put(status, rsvpStatusCounts.getOrDefault(status, 0) + 1);
+        GuestCounts guestCounts = table.getGuestCounts();
+
+        for (Rsvp.Status status : Rsvp.Status.values()) {
+            int count = guestCounts.getCount(status);
+            if (count == 0) {
+                continue;
             }
-        }
 
-        // Display the counts
-        rsvpStatusCounts.forEach((status, count) -> {
             Label label = new Label(status + ": " + count);
 
             // Add common style class for RSVP status
@@ -158,13 +143,13 @@ public class TableCard extends UiPart<Region> {
 
             // Add specific style class based on the RSVP status
             switch (status) {
-            case "YES":
+            case YES:
                 label.getStyleClass().add("rsvp-yes");
                 break;
-            case "NO":
+            case NO:
                 label.getStyleClass().add("rsvp-no");
                 break;
-            case "NO_RESPONSE":
+            case NO_RESPONSE:
                 label.getStyleClass().add("rsvp-no-response");
                 break;
             default:
@@ -172,6 +157,6 @@ public class TableCard extends UiPart<Region> {
             }
 
             rsvpCounts.getChildren().add(label);
-        });
+        }
     }
 }
@@ -0,0 +1,88 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Creates copies of observable values that are only ever changed on the JavaFX Application Thread.
+ * <p>
+ * Commands change the model on a background thread, so the UI shows copies of the model's lists instead of the
+ * originals. Each change is copied on the thread that makes it, and made to the copy later on the JavaFX Application
+ * Thread, in the order the changes were made.
+ * </p>
+ */
+final class UiThreadMirror {
+
+    private UiThreadMirror() {}
+
+    /**
+     * Returns an unmodifiable list that follows {@code source} on the JavaFX Application Thread.
+     * Elements added to {@code source} are shown as copies made with {@code copier}, so that elements that are
+     * changed in place on another thread are never read while they are being changed.
+     * Must be called while {@code source} is not being changed.
+     */
+    static <T> ObservableList<T> ofList(ObservableList<T> source, UnaryOperator<T> copier) {
+        requireNonNull(source);
+        requireNonNull(copier);
+
+        ObservableList<T> mirror = FXCollections.observableArrayList(copyAll(source, copier));
+        source.addListener((ListChangeListener<T>) change -> {
+            List<ListEdit<T>> edits = new ArrayList<>();
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    // The elements in the range are the same ones, only in a different order or changed in place
+                    edits.add(new ListEdit<>(change.getFrom(), change.getTo() - change.getFrom(),
+                            copyAll(change.getList().subList(change.getFrom(), change.getTo()), copier)));
+                } else {
+                    edits.add(new ListEdit<>(change.getFrom(), change.getRemovedSize(),
+                            copyAll(change.getAddedSubList(), copier)));
+                }
+            }
+            Platform.runLater(() -> edits.forEach(edit -> edit.applyTo(mirror)));
+        });
+        return FXCollections.unmodifiableObservableList(mirror);
+    }
+
+    private static <T> List<T> copyAll(List<? extends T> elements, UnaryOperator<T> copier) {
+        List<T> copies = new ArrayList<>(elements.size());
+        for (T element : elements) {
+            copies.add(copier.apply(element));
+        }
+        return copies;
+    }
+
+    /**
+     * Replaces {@code removedSize} elements starting at {@code from} with {@code added}.
+     */
+    private static class ListEdit<T> {
+        private final int from;
+        private final int removedSize;
+        private final List<T> added;
+
+        ListEdit(int from, int removedSize, List<T> added) {
+            this.from = from;
+            this.removedSize = removedSize;
+            this.added = added;
+        }
+
+        void applyTo(ObservableList<T> list) {
+            if (removedSize == added.size()) {
+                // Replaces the elements one by one, so list views keep their selection
+                for (int i = 0; i < removedSize; i++) {
+                    list.set(from + i, added.get(i));
+                }
+                return;
+            }
+            list.remove(from, from + removedSize);
+            list.addAll(from, added);
+        }
+    }
+}
@@ -1,20 +1,34 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.DIETARY_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.DIETARY_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.RSVP_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.RSVP_DESC_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,9 +36,11 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddPersonCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeletePersonCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -35,6 +51,7 @@ import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonUtil;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
@@ -45,6 +62,7 @@ public class LogicManagerTest {
 
     private Model model = new ModelManager();
     private Wedding testWedding = new Wedding("Test Wedding");
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -52,7 +70,7 @@ public class LogicManagerTest {
         JsonAddressBookStorage addressBookStorage =
                 new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
         model.addWedding(testWedding);
         model.setCurrentWeddingByName("Test Wedding");
         logic = new LogicManager(model, storage);
@@ -88,11 +106,149 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void executeAsync_validCommand_completesWithResult() throws Exception {
+        CommandResult result = logic.executeAsync(ListCommand.COMMAND_WORD).get(5, TimeUnit.SECONDS);
+        assertEquals(ListCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void executeAsync_invalidCommandFormat_completesWithParseException() throws Exception {
+        CompletableFuture<CommandResult> result = logic.executeAsync("uicfhmowqewca");
+
+        Throwable error = result.handle((unused, e) -> e).get(5, TimeUnit.SECONDS);
+        assertEquals(ParseException.class, error.getClass());
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, error.getMessage());
+    }
+
+    @Test
+    public void executeAsync_commandThrowsError_completesExceptionally() throws Exception {
+        AssertionError assertionError = new AssertionError("dummy assertion error");
+        Model failingModel = new ModelManager() {
+            @Override
+            public void updateFilteredPersonList(Predicate<Person> predicate) {
+                throw assertionError;
+            }
+        };
+        logic = new LogicManager(failingModel, storage);
+
+        CompletableFuture<CommandResult> result = logic.executeAsync(ListCommand.COMMAND_WORD);
+
+        Throwable error = result.handle((unused, e) -> e).get(5, TimeUnit.SECONDS);
+        assertSame(assertionError, error);
+    }
+
+    @Test
+    public void executeAsync_severalCommands_executedInOrderSubmitted() throws Exception {
+        logic.executeAsync(AddPersonCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + DIETARY_DESC_AMY + RSVP_DESC_AMY);
+        logic.executeAsync(AddPersonCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB
+                + ADDRESS_DESC_BOB + DIETARY_DESC_BOB + RSVP_DESC_BOB);
+        logic.executeAsync(DeletePersonCommand.COMMAND_WORD + " 1").get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, model.getFilteredPersonList().size());
+        assertEquals(BOB.getName(), model.getFilteredPersonList().get(0).getName());
+    }
+
+    @Test
+    public void weddingNameProperty_weddingSwitched_changedThroughUiExecutor() {
+        List<Runnable> uiTasks = new ArrayList<>();
+        logic = new LogicManager(model, storage, uiTasks::add);
+        uiTasks.forEach(Runnable::run);
+        uiTasks.clear();
+        model.addWedding(new Wedding("Other Wedding"));
+
+        model.setCurrentWeddingByName("Other Wedding");
+        assertEquals("Test Wedding", logic.weddingNameProperty().get());
+
+        uiTasks.forEach(Runnable::run);
+        assertEquals("Other Wedding", logic.weddingNameProperty().get());
+    }
+
+    @Test
+    public void shutdown_commandSubmitted_waitsForCommand() {
+        CompletableFuture<CommandResult> result = logic.executeAsync(AddPersonCommand.COMMAND_WORD + NAME_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + DIETARY_DESC_AMY + RSVP_DESC_AMY);
+
+        logic.shutdown();
+
+        assertTrue(result.isDone());
+        assertEquals(1, model.getFilteredPersonList().size());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void execute_changingCommand_savesModelSnapshot() throws Exception {
+        List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        StorageManager recordingStorage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))) {
+            @Override
+            public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes) {
+                saved.add(addressBook);
+            }
+        };
+        logic = new LogicManager(model, recordingStorage);
+
+        logic.execute(PersonUtil.getAddCommand(AMY));
+
+        // Storage shares the model's snapshots, and the copies of the weddings they hold
+        assertEquals(1, saved.size());
+        assertSame(model.getAddressBookSnapshot(), saved.get(0));
+    }
+
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        // Any attempt to save fails, so the command only succeeds if saving is skipped
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        throw DUMMY_IO_EXCEPTION;
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void getGuestNameCompletions_currentWeddingSet_returnsMatchingNames() throws Exception {
+        model.addPerson(AMY);
+        model.addPerson(new PersonBuilder().withName("Amelia Lim").build());
+        logic = new LogicManager(model, storage);
+        logic.execute(PersonUtil.getAddCommand(new PersonBuilder().withName("Bob Choo").build()));
+
+        assertEquals(List.of("Amelia Lim", "Amy Bee"), logic.getGuestNameCompletions("am"));
+        assertEquals(List.of("Bob Choo"), logic.getGuestNameCompletions("bob"));
+        assertEquals(List.of(), logic.getGuestNameCompletions("carl"));
+    }
+
+    @Test
+    public void getGuestNameCompletions_commandRunning_servesGuestsFromLastCommand() throws Exception {
+        List<Runnable> uiTasks = new ArrayList<>();
+        logic = new LogicManager(model, storage, uiTasks::add);
+        uiTasks.forEach(Runnable::run);
+        uiTasks.clear();
+
+        logic.execute(PersonUtil.getAddCommand(AMY));
+        assertEquals(List.of(), logic.getGuestNameCompletions("am"));
+
+        uiTasks.forEach(Runnable::run);
+        assertEquals(List.of("Amy Bee"), logic.getGuestNameCompletions("am"));
+    }
+
+    @Test
+    public void getGuestNameCompletions_noCurrentWedding_returnsEmptyList() {
+        model.deleteWeddingByName("Test Wedding");
+        assertEquals(List.of(), logic.getGuestNameCompletions("a"));
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
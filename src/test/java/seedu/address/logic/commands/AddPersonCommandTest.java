@@ -7,10 +7,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
-import java.beans.PropertyChangeListener;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -21,9 +22,12 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.event.ModelEvent;
 import seedu.address.model.exceptions.NoCurrentWeddingException;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
@@ -163,6 +167,11 @@ public class AddPersonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public AddressBookSnapshot getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Person findPersonByName(Name name) {
             throw new AssertionError("This method should not be called.");
@@ -298,17 +307,64 @@ public class AddPersonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addAddressBookChangeListener(Consumer<AddressBookChange> listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void batch(Runnable operations) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
 
         public boolean hasCurrentWedding() {
             return true;
         }
-        public void addPropertyChangeListener(PropertyChangeListener listener) {
+
+        @Override
+        public <E extends ModelEvent> void addEventListener(Class<E> eventType, Consumer<List<E>> listener) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void removePropertyChangeListener(PropertyChangeListener listener) {
+        public void removeEventListener(Consumer<?> listener) {
             throw new AssertionError("This method should not be called.");
         }
     }
@@ -0,0 +1,52 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.wedding.Wedding;
+
+/**
+ * Contains integration tests (interaction with the Model) for RedoCommand.
+ */
+public class RedoCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = createModelWithWedding();
+        expectedModel = createModelWithWedding();
+    }
+
+    @Test
+    public void execute_nothingToRedo_throwsCommandException() {
+        model.addPerson(AMY);
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_changesUndone_redoesLatestUndoneChange() {
+        model.addPerson(AMY);
+        model.addPerson(BOB);
+        model.undo();
+        model.undo();
+        expectedModel.addPerson(AMY);
+
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    private static Model createModelWithWedding() {
+        Model model = new ModelManager();
+        model.addWedding(new Wedding("Test"));
+        model.setCurrentWeddingByName("Test");
+        return model;
+    }
+}
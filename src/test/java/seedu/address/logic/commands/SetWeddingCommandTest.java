@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,6 +11,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.exceptions.WeddingLoadingException;
 
 public class SetWeddingCommandTest {
     private Model model;
@@ -47,4 +49,18 @@ public class SetWeddingCommandTest {
             assertEquals(ce.getMessage(), String.format(Messages.MESSAGE_UNKNOWN_WEDDING_NAME, "New Wedding"));
         }
     }
+
+    @Test
+    public void execute_weddingCannotBeLoaded_throwsCommandException() {
+        Wedding currentWedding = new Wedding("Current Wedding");
+        model.addWedding(currentWedding);
+        model.setCurrentWedding(currentWedding);
+        model.addWedding(new Wedding("Broken Wedding", () -> {
+            throw new WeddingLoadingException("shard is missing");
+        }));
+
+        assertCommandFailure(new SetWeddingCommand("Broken Wedding"), model,
+                String.format(SetWeddingCommand.MESSAGE_WEDDING_NOT_LOADED, "Broken Wedding", "shard is missing"));
+        assertEquals(currentWedding, model.getCurrentWedding());
+    }
 }
@@ -0,0 +1,49 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.wedding.Wedding;
+
+/**
+ * Contains integration tests (interaction with the Model) for UndoCommand.
+ */
+public class UndoCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = createModelWithWedding();
+        expectedModel = createModelWithWedding();
+    }
+
+    @Test
+    public void execute_nothingToUndo_throwsCommandException() {
+        assertCommandFailure(new UndoCommand(), new ModelManager(), UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_changesMade_undoesLatestChange() {
+        model.addPerson(AMY);
+        model.addPerson(BOB);
+        expectedModel.addPerson(AMY);
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    private static Model createModelWithWedding() {
+        Model model = new ModelManager();
+        model.addWedding(new Wedding("Test"));
+        model.setCurrentWeddingByName("Test");
+        return model;
+    }
+}
@@ -1,6 +1,10 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -8,7 +12,10 @@ import org.junit.jupiter.api.Test;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.person.DietaryRestriction;
+import seedu.address.model.person.Rsvp;
 import seedu.address.model.wedding.Wedding;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Unit tests for {@link WeddingOverviewCommand}.
@@ -43,11 +50,43 @@ public class WeddingOverviewCommandTest {
                 "John and Jane's Wedding",
                 testWedding.getTableList().asUnmodifiableObservableList().size(),
                 testWedding.getUniquePersonList().size(),
+                "YES: 0, NO: 0, NO_RESPONSE: 0",
+                WeddingOverviewCommand.MESSAGE_NO_DIETARY_RESTRICTIONS,
                 formattedGuestList);
 
         assertEquals(expectedMessage, result.getFeedbackToUser());
     }
 
+    @Test
+    public void execute_weddingWithGuests_showsRsvpAndDietaryRestrictionCounts() throws CommandException {
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        model.addPerson(AMY);
+        model.setPerson(AMY, new PersonBuilder(AMY).withRsvp(Rsvp.Status.NO_RESPONSE)
+                .withDietaryRestriction(DietaryRestriction.TypicalRestriction.HALAL).build());
+
+        CommandResult result = new WeddingOverviewCommand().execute(model);
+
+        assertTrue(result.getFeedbackToUser().contains("Number of guests invited: 3"));
+        assertTrue(result.getFeedbackToUser().contains("RSVP: YES: 1, NO: 1, NO_RESPONSE: 1"));
+        assertTrue(result.getFeedbackToUser().contains("Dietary restrictions: VEGETARIAN: 1, HALAL: 1"));
+    }
+
+    @Test
+    public void execute_insideBatch_listsAllCountedGuests() throws CommandException {
+        model.beginBatch();
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+
+        CommandResult result = new WeddingOverviewCommand().execute(model);
+        model.commitBatch();
+
+        // The filtered list only shows the guests added once the batch is committed
+        assertTrue(result.getFeedbackToUser().contains("Number of guests invited: 2"));
+        assertTrue(result.getFeedbackToUser().contains(ALICE.toString()));
+        assertTrue(result.getFeedbackToUser().contains(BENSON.toString()));
+    }
+
     // @Test
     // public void execute_noExistingWedding_throwsCommandException() {
     //     model.setCurrentWedding(null); // Ensure no wedding exists
@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.DietaryRestriction;
+import seedu.address.model.person.Rsvp;
+import seedu.address.model.table.Table;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Unit tests for {@link WeddingStatsCommand}.
+ */
+public class WeddingStatsCommandTest {
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        Wedding testWedding = new Wedding("John and Jane's Wedding");
+        model.addWedding(testWedding);
+        model.setCurrentWedding(testWedding);
+    }
+
+    @Test
+    public void execute_emptyWedding_showsZeroCounts() throws CommandException {
+        CommandResult result = new WeddingStatsCommand().execute(model);
+
+        String expectedMessage = String.format(WeddingStatsCommand.MESSAGE_SUCCESS,
+                "John and Jane's Wedding",
+                0,
+                "YES: 0, NO: 0, NO_RESPONSE: 0",
+                WeddingOverviewCommand.MESSAGE_NO_DIETARY_RESTRICTIONS,
+                WeddingStatsCommand.MESSAGE_NO_TABLES);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_weddingWithSeatedGuests_showsWeddingAndTableCounts() throws CommandException {
+        model.addTable(new Table(1, 4));
+        model.addTable(new Table(2, 6));
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        model.addPerson(AMY);
+        model.setPerson(AMY, new PersonBuilder(AMY).withRsvp(Rsvp.Status.NO_RESPONSE)
+                .withDietaryRestriction(DietaryRestriction.TypicalRestriction.HALAL).build());
+        model.addPersonToTableById(model.findPersonByName(ALICE.getName()), 1);
+        model.addPersonToTableById(model.findPersonByName(AMY.getName()), 1);
+
+        String feedback = new WeddingStatsCommand().execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.contains("Number of guests invited: 3"));
+        assertTrue(feedback.contains("RSVP: YES: 1, NO: 1, NO_RESPONSE: 1"));
+        assertTrue(feedback.contains("Dietary restrictions: VEGETARIAN: 1, HALAL: 1"));
+        assertTrue(feedback.contains(String.format(WeddingStatsCommand.MESSAGE_TABLE_STATS, 1, 2, 4,
+                "YES: 1, NO: 0, NO_RESPONSE: 1", "HALAL: 1")));
+        assertTrue(feedback.contains(String.format(WeddingStatsCommand.MESSAGE_TABLE_STATS, 2, 0, 6,
+                "YES: 0, NO: 0, NO_RESPONSE: 0", WeddingOverviewCommand.MESSAGE_NO_DIETARY_RESTRICTIONS)));
+    }
+}
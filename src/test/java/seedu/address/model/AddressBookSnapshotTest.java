@@ -0,0 +1,82 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook2;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.exceptions.NoCurrentWeddingException;
+
+public class AddressBookSnapshotTest {
+
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = getTypicalAddressBook2();
+        addressBook.createWeddingWithName("Jack and Jill");
+    }
+
+    @Test
+    public void of_addressBook_sameWeddingsAndCurrentWedding() {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook, null);
+
+        assertEquals(1, snapshot.getVersion());
+        assertEquals(addressBook, new AddressBook(snapshot));
+        assertEquals("John and Jane", snapshot.getCurrentWedding().getName());
+        assertEquals(addressBook.getPersonList(), snapshot.getPersonList());
+        assertEquals(addressBook.getTableList(), snapshot.getTableList());
+    }
+
+    @Test
+    public void of_addressBookChangedAfterwards_snapshotUnchanged() {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook, null);
+        AddressBook expected = new AddressBook(addressBook);
+
+        addressBook.deletePerson(ALICE);
+        addressBook.setCurrentWeddingByName("Jack and Jill");
+        addressBook.addPerson(AMY);
+
+        assertEquals(expected, new AddressBook(snapshot));
+        assertEquals("John and Jane", snapshot.getCurrentWedding().getName());
+        assertTrue(snapshot.getPersonList().contains(ALICE));
+    }
+
+    @Test
+    public void of_previousSnapshot_sharesOnlyUnchangedWeddings() {
+        AddressBookSnapshot previous = AddressBookSnapshot.of(addressBook, null);
+
+        addressBook.deletePerson(ALICE);
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook, previous);
+
+        assertEquals(2, snapshot.getVersion());
+        assertNotSame(previous.getWeddingList().get(0), snapshot.getWeddingList().get(0));
+        assertSame(previous.getWeddingList().get(1), snapshot.getWeddingList().get(1));
+        assertFalse(snapshot.getPersonList().contains(ALICE));
+        assertEquals(addressBook, new AddressBook(snapshot));
+    }
+
+    @Test
+    public void getCurrentWedding_noCurrentWedding_throwsNoCurrentWeddingException() {
+        addressBook.clearCurrentWedding();
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook, null);
+
+        assertFalse(snapshot.hasCurrentWedding());
+        assertTrue(snapshot.getPersonList().isEmpty());
+        assertThrows(NoCurrentWeddingException.class, snapshot::getCurrentWedding);
+    }
+
+    @Test
+    public void getWeddingList_modify_throwsUnsupportedOperationException() {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook, null);
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getWeddingList().remove(0));
+    }
+}
@@ -7,6 +7,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Collection;
@@ -89,6 +90,42 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getPersonList_switchWedding_showsNewCurrentWeddingGuests() {
+        Wedding first = new Wedding("First");
+        first.addPerson(ALICE);
+        Wedding second = new Wedding("Second");
+        second.addPerson(BOB);
+        addressBook.addWedding(first);
+        addressBook.addWedding(second);
+
+        ObservableList<Person> personList = addressBook.getPersonList();
+        addressBook.setCurrentWedding(first);
+        assertEquals(Collections.singletonList(ALICE), personList);
+        addressBook.setCurrentWedding(second);
+        assertEquals(Collections.singletonList(BOB), personList);
+    }
+
+    @Test
+    public void getPersonList_mutateCurrentWedding_reflectsChange() {
+        addressBook.addWedding(new Wedding("Test"));
+        addressBook.setCurrentWeddingByName("Test");
+        addressBook.addPerson(ALICE);
+        assertEquals(Collections.singletonList(ALICE), addressBook.getPersonList());
+        addressBook.deletePerson(ALICE);
+        assertTrue(addressBook.getPersonList().isEmpty());
+    }
+
+    @Test
+    public void getPersonList_deleteCurrentWedding_isEmpty() {
+        addressBook.addWedding(new Wedding("Test"));
+        addressBook.setCurrentWeddingByName("Test");
+        addressBook.addPerson(ALICE);
+        addressBook.deleteCurrentWedding();
+        assertTrue(addressBook.getPersonList().isEmpty());
+        assertTrue(addressBook.getTableList().isEmpty());
+    }
+
     @Test
     public void noCurrentWedding_addPerson_throwsNoCurrentWeddingException() {
         AddressBookStubWithoutWedding addressBookStub = new AddressBookStubWithoutWedding();
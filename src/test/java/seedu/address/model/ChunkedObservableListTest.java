@@ -0,0 +1,83 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class ChunkedObservableListTest {
+
+    private static final int SIZE = ChunkedObservableList.CHUNK_SIZE * 3 + 5;
+
+    private final ChunkedObservableList<Integer> list = new ChunkedObservableList<>();
+
+    @Test
+    public void add_acrossChunks_keepsOrder() {
+        List<Integer> expected = range(SIZE);
+        list.addAll(expected);
+        list.add(ChunkedObservableList.CHUNK_SIZE, -1);
+        expected.add(ChunkedObservableList.CHUNK_SIZE, -1);
+
+        assertEquals(expected, list);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(SIZE + 1));
+    }
+
+    @Test
+    public void remove_acrossChunks_shiftsLaterElements() {
+        List<Integer> expected = range(SIZE);
+        list.addAll(expected);
+
+        assertEquals(Integer.valueOf(1), list.remove(1));
+        expected.remove(1);
+
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void copy_thenChangeEither_otherUnchanged() {
+        list.addAll(range(SIZE));
+        ChunkedObservableList<Integer> copy = list.copy();
+
+        list.set(0, -1);
+        list.remove(ChunkedObservableList.CHUNK_SIZE);
+        list.add(-2);
+        copy.set(SIZE - 1, -3);
+
+        List<Integer> expectedList = range(SIZE);
+        expectedList.set(0, -1);
+        expectedList.remove(ChunkedObservableList.CHUNK_SIZE);
+        expectedList.add(-2);
+        List<Integer> expectedCopy = range(SIZE);
+        expectedCopy.set(SIZE - 1, -3);
+        assertEquals(expectedList, list);
+        assertEquals(expectedCopy, copy);
+    }
+
+    @Test
+    public void setAll_firesSingleReplaceChange() {
+        list.addAll(range(3));
+        List<String> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + "-" + change.getTo() + " removed " + change.getRemoved());
+            }
+        });
+
+        list.setAll(List.of(7, 8));
+        list.clear();
+
+        assertEquals(List.of("0-2 removed [0, 1, 2]", "0-0 removed [7, 8]"), changes);
+        assertEquals(List.of(), list);
+    }
+
+    private static List<Integer> range(int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toCollection(ArrayList::new));
+    }
+}
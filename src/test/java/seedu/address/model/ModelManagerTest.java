@@ -2,20 +2,39 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.event.GuestAdded;
+import seedu.address.model.event.GuestSeated;
+import seedu.address.model.event.ModelEvent;
+import seedu.address.model.event.WeddingDeleted;
+import seedu.address.model.event.WeddingSwitched;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.table.Table;
 import seedu.address.model.wedding.Wedding;
 import seedu.address.testutil.AddressBookBuilder;
 
@@ -30,6 +49,20 @@ public class ModelManagerTest {
         assertEquals(new AddressBook(), new AddressBook(modelManager.getAddressBook()));
     }
 
+    @Test
+    public void getAddressBookSnapshot_unchanged_sameSnapshot() {
+        modelManager.addWedding(new Wedding("Test Wedding"));
+        modelManager.setCurrentWeddingByName("Test Wedding");
+        AddressBookSnapshot snapshot = modelManager.getAddressBookSnapshot();
+        assertSame(snapshot, modelManager.getAddressBookSnapshot());
+
+        modelManager.addPerson(AMY);
+        AddressBookSnapshot changedSnapshot = modelManager.getAddressBookSnapshot();
+        assertNotSame(snapshot, changedSnapshot);
+        assertFalse(snapshot.getPersonList().contains(AMY));
+        assertTrue(changedSnapshot.getPersonList().contains(AMY));
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
@@ -98,6 +131,328 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void batch_severalChanges_notifiesListListenersOnce() {
+        modelManager.addWedding(new Wedding("Test"));
+        modelManager.setCurrentWeddingByName("Test");
+        int[] changeCount = new int[1];
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        modelManager.batch(() -> {
+            modelManager.addPerson(ALICE);
+            modelManager.addPerson(BENSON);
+            // the filtered list keeps its old contents until the batch is committed
+            assertEquals(0, modelManager.getFilteredPersonList().size());
+        });
+
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void deleteTableById_seatedGuests_notifiesPersonListenersOnce() throws Exception {
+        modelManager.addWedding(new Wedding("Test"));
+        modelManager.setCurrentWeddingByName("Test");
+        modelManager.addTable(new Table(1, 5));
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(AMY);
+        modelManager.addPersonToTableById(ALICE, 1);
+        modelManager.addPersonToTableById(AMY, 1);
+        int[] changeCount = new int[1];
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        modelManager.deleteTableById(1);
+
+        assertEquals(1, changeCount[0]);
+        assertFalse(modelManager.hasTable(1));
+    }
+
+    @Test
+    public void batch_currentWeddingChangedTwice_deliversBothSwitchesTogether() {
+        Wedding first = new Wedding("First");
+        Wedding second = new Wedding("Second");
+        modelManager.addWedding(first);
+        modelManager.addWedding(second);
+        List<List<WeddingSwitched>> deliveries = new ArrayList<>();
+        modelManager.addEventListener(WeddingSwitched.class, deliveries::add);
+
+        modelManager.batch(() -> {
+            modelManager.setCurrentWedding(first);
+            modelManager.setCurrentWedding(second);
+        });
+
+        assertEquals(List.of(List.of(new WeddingSwitched(null, "First"), new WeddingSwitched("First", "Second"))),
+                deliveries);
+    }
+
+    @Test
+    public void addEventListener_guestAddedAndSeated_deliversEventsOfRegisteredTypes() throws Exception {
+        modelManager.addWedding(new Wedding("Test"));
+        modelManager.setCurrentWeddingByName("Test");
+        modelManager.addTable(new Table(1, 5));
+        List<ModelEvent> events = new ArrayList<>();
+        List<GuestSeated> seatings = new ArrayList<>();
+        modelManager.addEventListener(ModelEvent.class, events::addAll);
+        modelManager.addEventListener(GuestSeated.class, seatings::addAll);
+
+        modelManager.addPerson(AMY);
+        modelManager.addPersonToTableById(AMY, 1);
+        modelManager.deleteWeddingByName("Test");
+
+        assertEquals(Arrays.asList(new GuestAdded("Test", AMY), new GuestSeated("Test", AMY.getName(), 1),
+                new WeddingDeleted("Test"), new WeddingSwitched("Test", null)), events);
+        assertEquals(List.of(new GuestSeated("Test", AMY.getName(), 1)), seatings);
+    }
+
+    @Test
+    public void removeEventListener_listenerRemoved_noLongerGivenEvents() {
+        List<ModelEvent> events = new ArrayList<>();
+        Consumer<List<ModelEvent>> listener = events::addAll;
+        modelManager.addEventListener(ModelEvent.class, listener);
+
+        modelManager.removeEventListener(listener);
+        modelManager.addWedding(new Wedding("Test"));
+
+        assertEquals(List.of(), events);
+    }
+
+    @Test
+    public void commitBatch_noOpenBatch_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> modelManager.commitBatch());
+    }
+
+    @Test
+    public void addAddressBookChangeListener_guestAddedAndSeated_recordsChangesInOrder() throws Exception {
+        modelManager.addWedding(new Wedding("Test"));
+        modelManager.setCurrentWeddingByName("Test");
+        List<AddressBookChange> changes = new ArrayList<>();
+        modelManager.addAddressBookChangeListener(changes::add);
+
+        modelManager.addTable(new Table(1, 5));
+        modelManager.addPerson(AMY);
+        modelManager.addPersonToTableById(AMY, 1);
+
+        assertEquals(Arrays.asList(AddressBookChange.addTable("Test", new Table(1, 5)),
+                AddressBookChange.addPerson("Test", AMY),
+                AddressBookChange.addPersonToTable("Test", AMY.getName(), 1)), changes);
+    }
+
+    @Test
+    public void addAddressBookChangeListener_changeAfterFailedCommand_recordsChange() {
+        modelManager.addWedding(new Wedding("Test"));
+        modelManager.setCurrentWeddingByName("Test");
+        modelManager.addPerson(AMY);
+        List<AddressBookChange> changes = new ArrayList<>();
+        modelManager.addAddressBookChangeListener(changes::add);
+
+        assertThrows(CommandException.class, () -> modelManager.addPersonToTableById(AMY, 1));
+        modelManager.addPerson(ALICE);
+
+        assertEquals(Arrays.asList(AddressBookChange.addPerson("Test", ALICE)), changes);
+    }
+
+    @Test
+    public void setCurrentWedding_otherWedding_recordsChangeAndKeepsUndoHistory() {
+        modelManager.addWedding(new Wedding("Test"));
+        modelManager.addWedding(new Wedding("Other"));
+        modelManager.setCurrentWeddingByName("Test");
+        modelManager.addPerson(AMY);
+        List<AddressBookChange> changes = new ArrayList<>();
+        modelManager.addAddressBookChangeListener(changes::add);
+        long modificationCount = modelManager.getModificationCount();
+
+        modelManager.setCurrentWeddingByName("Other");
+        modelManager.setCurrentWeddingByName("Other");
+
+        assertEquals(Arrays.asList(AddressBookChange.setCurrentWedding("Other")), changes);
+        assertEquals(modificationCount + 1, modelManager.getModificationCount());
+
+        modelManager.undo();
+        assertEquals("Other", modelManager.getCurrentWedding().getName());
+        assertFalse(modelManager.findWeddingByName("Test").getUniquePersonList().contains(AMY));
+    }
+
+    @Test
+    public void addPersonToTableById_fullTable_doesNotCountModification() throws Exception {
+        modelManager.addWedding(new Wedding("Test"));
+        modelManager.setCurrentWeddingByName("Test");
+        modelManager.addTable(new Table(1, 1));
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(AMY);
+        modelManager.addPersonToTableById(ALICE, 1);
+        long modificationCount = modelManager.getModificationCount();
+
+        assertThrows(CommandException.class, () -> modelManager.addPersonToTableById(AMY, 1));
+
+        assertEquals(modificationCount, modelManager.getModificationCount());
+        assertEquals(-1, modelManager.findPersonByName(AMY.getName()).getTableId());
+    }
+
+
+    @Test
+    public void undo_deleteTableWithSeatedGuests_restoresTableAndSeatsInOneStep() throws Exception {
+        modelManager.addWedding(new Wedding("Test"));
+        modelManager.setCurrentWeddingByName("Test");
+        modelManager.addTable(new Table(1, 5));
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(AMY);
+        modelManager.addPersonToTableById(ALICE, 1);
+        modelManager.addPersonToTableById(AMY, 1);
+        AddressBook expectedAddressBook = new AddressBook(modelManager.getAddressBook());
+        modelManager.deleteTableById(1);
+
+        modelManager.undo();
+
+        assertEquals(expectedAddressBook, modelManager.getAddressBook());
+        assertEquals(Arrays.asList(ALICE.getName(), AMY.getName()), modelManager.findTableById(1).getAllPersons()
+                .stream().map(Person::getName).collect(Collectors.toList()));
+        assertTrue(modelManager.canRedo());
+
+        modelManager.redo();
+        assertFalse(modelManager.hasTable(1));
+        assertFalse(modelManager.findPersonByName(ALICE.getName()).isSeated());
+    }
+
+    @Test
+    public void undo_afterFailedCommand_undoesEarlierStep() throws Exception {
+        modelManager.addWedding(new Wedding("Test"));
+        modelManager.setCurrentWeddingByName("Test");
+        modelManager.addPerson(AMY);
+        assertThrows(CommandException.class, () -> modelManager.addPersonToTableById(AMY, 99));
+        modelManager.addPerson(ALICE);
+
+        modelManager.undo();
+        modelManager.undo();
+
+        assertFalse(modelManager.hasPerson(AMY));
+        assertFalse(modelManager.hasPerson(ALICE));
+    }
+
+    @Test
+    public void undo_setTable_restoresOldTableAndKeepsEarlierSteps() throws Exception {
+        modelManager.addWedding(new Wedding("Test"));
+        modelManager.setCurrentWeddingByName("Test");
+        modelManager.addTable(new Table(1, 5));
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(AMY);
+        modelManager.addPersonToTableById(ALICE, 1);
+        AddressBook expectedAddressBook = new AddressBook(modelManager.getAddressBook());
+        UniquePersonList editedGuests = new UniquePersonList();
+        editedGuests.add(AMY);
+        modelManager.setTable(modelManager.findTableById(1), new Table(2, 3, editedGuests));
+
+        assertFalse(modelManager.hasTable(1));
+        assertEquals(2, modelManager.findPersonByName(AMY.getName()).getTableId());
+        assertFalse(modelManager.findPersonByName(ALICE.getName()).isSeated());
+
+        modelManager.undo();
+
+        assertEquals(expectedAddressBook, modelManager.getAddressBook());
+        assertFalse(modelManager.hasTable(2));
+        assertEquals(1, modelManager.findPersonByName(ALICE.getName()).getTableId());
+        assertTrue(modelManager.canUndo());
+    }
+
+    @Test
+    public void setTable_editedTable_keepsPositionInTableList() {
+        modelManager.addWedding(new Wedding("Test"));
+        modelManager.setCurrentWeddingByName("Test");
+        modelManager.addTable(new Table(1, 5));
+        modelManager.addTable(new Table(2, 5));
+        modelManager.addTable(new Table(3, 5));
+
+        modelManager.setTable(modelManager.findTableById(1), new Table(4, 8));
+
+        assertEquals(Arrays.asList(4, 2, 3), modelManager.getFilteredTableList().stream()
+                .map(Table::getTableId).collect(Collectors.toList()));
+        assertEquals(8, modelManager.findTableById(4).getCapacity());
+
+        modelManager.undo();
+
+        assertEquals(Arrays.asList(1, 2, 3), modelManager.getFilteredTableList().stream()
+                .map(Table::getTableId).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void setTable_guestNotInWedding_leavesTableUnchanged() throws Exception {
+        modelManager.addWedding(new Wedding("Test"));
+        modelManager.setCurrentWeddingByName("Test");
+        modelManager.addTable(new Table(1, 5));
+        modelManager.addPerson(ALICE);
+        modelManager.addPersonToTableById(ALICE, 1);
+        AddressBook expectedAddressBook = new AddressBook(modelManager.getAddressBook());
+        UniquePersonList editedGuests = new UniquePersonList();
+        editedGuests.add(ALICE);
+        editedGuests.add(BOB);
+
+        assertThrows(PersonNotFoundException.class, () ->
+                modelManager.setTable(modelManager.findTableById(1), new Table(2, 3, editedGuests)));
+
+        assertEquals(expectedAddressBook, modelManager.getAddressBook());
+        assertEquals(1, modelManager.findPersonByName(ALICE.getName()).getTableId());
+    }
+
+    @Test
+    public void undo_deleteCurrentWedding_restoresWeddingAndNotifiesChanges() throws Exception {
+        modelManager.addWedding(new Wedding("Test"));
+        modelManager.setCurrentWeddingByName("Test");
+        modelManager.addTable(new Table(1, 5));
+        modelManager.addPerson(ALICE);
+        modelManager.addPersonToTableById(ALICE, 1);
+        Wedding expectedWedding = new Wedding(modelManager.getCurrentWedding());
+        modelManager.deleteWeddingByName("Test");
+        List<AddressBookChange> changes = new ArrayList<>();
+        modelManager.addAddressBookChangeListener(changes::add);
+
+        modelManager.undo();
+
+        assertEquals(expectedWedding, modelManager.findWeddingByName("Test"));
+        assertEquals(Arrays.asList(AddressBookChange.addWedding(new Wedding("Test")),
+                AddressBookChange.addTable("Test", new Table(1, 5)),
+                AddressBookChange.addPerson("Test", ALICE),
+                AddressBookChange.addPersonToTable("Test", ALICE.getName(), 1)), changes);
+    }
+
+    @Test
+    public void undo_batch_undoesAllChangesOfBatch() {
+        modelManager.addWedding(new Wedding("Test"));
+        modelManager.setCurrentWeddingByName("Test");
+        modelManager.addPerson(ALICE);
+
+        modelManager.batch(() -> {
+            modelManager.addPerson(AMY);
+            modelManager.setPerson(ALICE, BOB);
+        });
+        modelManager.undo();
+
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+        modelManager.undo();
+        assertEquals(Arrays.asList(), modelManager.getFilteredPersonList());
+        assertTrue(modelManager.canUndo());
+    }
+
+    @Test
+    public void canUndo_afterSetAddressBook_returnsFalse() {
+        modelManager.addWedding(new Wedding("Test"));
+        modelManager.setAddressBook(new AddressBook());
+
+        assertFalse(modelManager.canUndo());
+        assertThrows(IllegalStateException.class, () -> modelManager.undo());
+    }
+
+    @Test
+    public void canRedo_changeAfterUndo_returnsFalse() {
+        modelManager.addWedding(new Wedding("Test"));
+        modelManager.setCurrentWeddingByName("Test");
+        modelManager.addPerson(ALICE);
+        modelManager.undo();
+        assertTrue(modelManager.canRedo());
+
+        modelManager.addPerson(AMY);
+
+        assertFalse(modelManager.canRedo());
+        assertThrows(IllegalStateException.class, () -> modelManager.redo());
+    }
 
     @Test
     public void equals() {
@@ -0,0 +1,79 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class RetargetableObservableListTest {
+
+    private final ObservableList<Integer> source = FXCollections.observableArrayList(1, 2, 3, 4);
+    private final RetargetableObservableList<Integer> view = new RetargetableObservableList<>();
+    private final List<String> changes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        view.setSource(source);
+        view.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + "-" + change.getTo() + " removed " + change.getRemoved());
+            }
+        });
+    }
+
+    @Test
+    public void flushChanges_sourceChangedWhileDeferred_showsOldElementsUntilFlushed() {
+        view.deferChanges();
+        source.remove(1);
+        source.add(0, 0);
+        source.set(3, 9);
+
+        assertEquals(List.of(1, 2, 3, 4), view);
+        assertEquals(List.of(), changes);
+
+        view.flushChanges();
+        assertEquals(List.of(0, 1, 3, 9), view);
+        assertEquals(List.of("0-4 removed [1, 2, 3, 4]"), changes);
+    }
+
+    @Test
+    public void flushChanges_changeWithSeveralPartsWhileDeferred_showsOldElementsUntilFlushed() {
+        view.deferChanges();
+        source.removeAll(1, 3);
+
+        assertEquals(List.of(1, 2, 3, 4), view);
+
+        view.flushChanges();
+        assertEquals(List.of(2, 4), view);
+    }
+
+    @Test
+    public void flushChanges_sourceReplacedWhileDeferred_showsOldElementsUntilFlushed() {
+        view.deferChanges();
+        view.setSource(FXCollections.observableArrayList(5, 6));
+        source.clear();
+
+        assertEquals(List.of(1, 2, 3, 4), view);
+
+        view.flushChanges();
+        assertEquals(List.of(5, 6), view);
+        assertEquals(List.of("0-2 removed [1, 2, 3, 4]"), changes);
+    }
+
+    @Test
+    public void flushChanges_nothingChangedWhileDeferred_firesNoChange() {
+        view.deferChanges();
+        view.flushChanges();
+
+        source.add(5);
+        assertEquals(List.of(1, 2, 3, 4, 5), view);
+        assertEquals(List.of("4-5 removed []"), changes);
+    }
+}
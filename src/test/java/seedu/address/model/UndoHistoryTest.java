@@ -0,0 +1,89 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class UndoHistoryTest {
+
+    private static final AddressBookChange ADD_FIRST = AddressBookChange.deleteWedding("Undo First");
+    private static final AddressBookChange UNDO_FIRST = AddressBookChange.deleteWedding("First");
+    private static final AddressBookChange ADD_SECOND = AddressBookChange.deleteWedding("Undo Second");
+    private static final AddressBookChange UNDO_SECOND = AddressBookChange.deleteWedding("Second");
+    private static final AddressBookChange UNDO_SECOND_AGAIN = AddressBookChange.deleteWedding("Second Again");
+
+    private final UndoHistory undoHistory = new UndoHistory();
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new UndoHistory(0));
+    }
+
+    @Test
+    public void undo_stepWithSeveralChanges_undoesLaterChangesFirst() {
+        undoHistory.record(ADD_FIRST, List.of(UNDO_FIRST));
+        undoHistory.record(ADD_SECOND, Arrays.asList(UNDO_SECOND, UNDO_SECOND_AGAIN));
+        undoHistory.commitStep();
+
+        assertEquals(Arrays.asList(UNDO_SECOND, UNDO_SECOND_AGAIN, UNDO_FIRST), undoHistory.undo());
+        assertFalse(undoHistory.canUndo());
+        assertEquals(Arrays.asList(ADD_FIRST, ADD_SECOND), undoHistory.redo());
+        assertFalse(undoHistory.canRedo());
+    }
+
+    @Test
+    public void undo_uncommittedStep_commitsStepFirst() {
+        undoHistory.record(ADD_FIRST, List.of(UNDO_FIRST));
+        assertTrue(undoHistory.canUndo());
+
+        assertEquals(List.of(UNDO_FIRST), undoHistory.undo());
+        assertTrue(undoHistory.canRedo());
+    }
+
+    @Test
+    public void commitStep_overCapacity_forgetsOldestStep() {
+        UndoHistory smallHistory = new UndoHistory(1);
+        smallHistory.record(ADD_FIRST, List.of(UNDO_FIRST));
+        smallHistory.commitStep();
+        smallHistory.record(ADD_SECOND, List.of(UNDO_SECOND));
+        smallHistory.commitStep();
+
+        assertEquals(List.of(UNDO_SECOND), smallHistory.undo());
+        assertFalse(smallHistory.canUndo());
+    }
+
+    @Test
+    public void commitStep_afterUndo_forgetsUndoneSteps() {
+        undoHistory.record(ADD_FIRST, List.of(UNDO_FIRST));
+        undoHistory.commitStep();
+        undoHistory.undo();
+
+        undoHistory.record(ADD_SECOND, List.of(UNDO_SECOND));
+        assertFalse(undoHistory.canRedo());
+        undoHistory.commitStep();
+
+        assertFalse(undoHistory.canRedo());
+        assertThrows(IllegalStateException.class, () -> undoHistory.redo());
+    }
+
+    @Test
+    public void clear_withSteps_nothingToUndoOrRedo() {
+        undoHistory.record(ADD_FIRST, List.of(UNDO_FIRST));
+        undoHistory.commitStep();
+        undoHistory.record(ADD_SECOND, List.of(UNDO_SECOND));
+        undoHistory.commitStep();
+        undoHistory.undo();
+
+        undoHistory.clear();
+
+        assertFalse(undoHistory.canUndo());
+        assertFalse(undoHistory.canRedo());
+        assertThrows(IllegalStateException.class, () -> undoHistory.undo());
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ModelEventBusTest {
+
+    private final ModelEventBus eventBus = new ModelEventBus();
+
+    @Test
+    public void publish_nullEvent_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> eventBus.publish(null));
+    }
+
+    @Test
+    public void publish_notHoldingEvents_deliversEachEventToListenersOfItsType() {
+        List<List<TableAdded>> tableDeliveries = new ArrayList<>();
+        List<List<WeddingEvent>> weddingDeliveries = new ArrayList<>();
+        eventBus.addListener(TableAdded.class, tableDeliveries::add);
+        eventBus.addListener(WeddingEvent.class, weddingDeliveries::add);
+
+        eventBus.publish(new TableAdded("Test", 1, 5));
+        eventBus.publish(new WeddingSwitched(null, "Test"));
+
+        assertEquals(List.of(List.of(new TableAdded("Test", 1, 5))), tableDeliveries);
+        assertEquals(List.of(List.of(new TableAdded("Test", 1, 5))), weddingDeliveries);
+    }
+
+    @Test
+    public void releaseEvents_eventsHeld_deliversEventsOfEachTypeTogetherInOrder() {
+        List<List<ModelEvent>> allDeliveries = new ArrayList<>();
+        List<List<GuestSeated>> seatingDeliveries = new ArrayList<>();
+        List<List<TableDeleted>> tableDeliveries = new ArrayList<>();
+        eventBus.addListener(ModelEvent.class, allDeliveries::add);
+        eventBus.addListener(GuestSeated.class, seatingDeliveries::add);
+        eventBus.addListener(TableDeleted.class, tableDeliveries::add);
+
+        eventBus.holdEvents();
+        eventBus.publish(new GuestAdded("Test", AMY));
+        eventBus.publish(new GuestSeated("Test", AMY.getName(), 1));
+        eventBus.publish(new GuestSeated("Test", AMY.getName(), 2));
+        assertEquals(List.of(), allDeliveries);
+        eventBus.releaseEvents();
+
+        assertEquals(List.of(List.of(new GuestAdded("Test", AMY), new GuestSeated("Test", AMY.getName(), 1),
+                new GuestSeated("Test", AMY.getName(), 2))), allDeliveries);
+        assertEquals(List.of(List.of(new GuestSeated("Test", AMY.getName(), 1),
+                new GuestSeated("Test", AMY.getName(), 2))), seatingDeliveries);
+        assertEquals(List.of(), tableDeliveries);
+    }
+}
@@ -2,16 +2,26 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -127,6 +137,32 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void delete_personInMiddle_laterPersonsStillFoundByName() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.delete(BOB);
+        assertEquals(CARL, uniquePersonList.findPersonByName(CARL.getName()));
+        assertEquals(ALICE, uniquePersonList.findPersonByName(ALICE.getName()));
+        assertFalse(uniquePersonList.hasPersonByName(BOB.getName()));
+    }
+
+    @Test
+    public void findPersonByName_differentCase_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        Name upperCaseName = new Name(ALICE.getName().fullName.toUpperCase());
+        assertEquals(ALICE, uniquePersonList.findPersonByName(upperCaseName));
+    }
+
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_oldNameNoLongerFound() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.hasPersonByName(ALICE.getName()));
+        assertEquals(BOB, uniquePersonList.findPersonByName(BOB.getName()));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +198,171 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void getGuestCounts_afterAddEditAndDelete_countsCurrentPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.setPerson(BOB, new PersonBuilder(BOB).withRsvp(Rsvp.Status.YES)
+                .withDietaryRestriction(DietaryRestriction.TypicalRestriction.VEGAN).build());
+        uniquePersonList.delete(ALICE);
+
+        GuestCounts guestCounts = uniquePersonList.getGuestCounts();
+        assertEquals(1, guestCounts.getTotal());
+        assertEquals(1, guestCounts.getCount(Rsvp.Status.YES));
+        assertEquals(0, guestCounts.getCount(Rsvp.Status.NO));
+        assertEquals(1, guestCounts.getCount(DietaryRestriction.TypicalRestriction.VEGAN));
+        assertEquals(0, guestCounts.getCount(DietaryRestriction.TypicalRestriction.NONE));
+    }
+
+    @Test
+    public void getGuestCounts_afterSetPersons_countsReplacementPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Arrays.asList(BOB, CARL));
+
+        GuestCounts guestCounts = uniquePersonList.getGuestCounts();
+        assertEquals(2, guestCounts.getTotal());
+        assertEquals(1, guestCounts.getCount(Rsvp.Status.NO));
+        assertEquals(2, guestCounts.getCount(DietaryRestriction.TypicalRestriction.NONE));
+    }
+
+    @Test
+    public void findPersonsMatching_afterEarlierPersonDeleted_usesShiftedPositions() {
+        Person veganBob = new PersonBuilder(BOB).withDietaryRestriction(DietaryRestriction.TypicalRestriction.VEGAN)
+                .build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(veganBob);
+        uniquePersonList.add(CARL);
+        uniquePersonList.delete(ALICE);
+
+        Set<DietaryRestriction.TypicalRestriction> veganOrNone = EnumSet.of(
+                DietaryRestriction.TypicalRestriction.VEGAN, DietaryRestriction.TypicalRestriction.NONE);
+        assertEquals(List.of(CARL), uniquePersonList.findPersonsMatching(veganOrNone, EnumSet.of(Rsvp.Status.YES)));
+        assertEquals(List.of(veganBob), uniquePersonList.findPersonsMatching(
+                EnumSet.of(DietaryRestriction.TypicalRestriction.VEGAN), Collections.emptySet()));
+        assertEquals(2, uniquePersonList.countPersonsMatching(Collections.emptySet(), Collections.emptySet()));
+    }
+
+    @Test
+    public void findPersonsMatching_afterSetPerson_usesEditedAttributes() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withRsvp(Rsvp.Status.NO).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+
+        assertEquals(List.of(), uniquePersonList.findPersonsMatching(Collections.emptySet(),
+                EnumSet.of(Rsvp.Status.YES)));
+        assertEquals(List.of(editedAlice), uniquePersonList.findPersonsMatching(Collections.emptySet(),
+                EnumSet.of(Rsvp.Status.NO)));
+    }
+
+    @Test
+    public void getAttributePredicate_afterListChanges_followsIndexes() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(CARL);
+        Predicate<Person> predicate = uniquePersonList.getAttributePredicate(Collections.emptySet(),
+                EnumSet.of(Rsvp.Status.NO), person -> person.getRsvp().getStatus() == Rsvp.Status.NO);
+        assertFalse(predicate.test(ALICE));
+
+        Person editedAlice = new PersonBuilder(ALICE).withRsvp(Rsvp.Status.NO).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertTrue(predicate.test(editedAlice));
+
+        uniquePersonList.delete(editedAlice);
+        assertFalse(predicate.test(CARL));
+
+        // Persons of other lists are tested with the given predicate
+        assertTrue(predicate.test(new PersonBuilder(BOB).withRsvp(Rsvp.Status.NO).build()));
+    }
+
+    @Test
+    public void findPersonsByNameKeywords_afterRenameAndDelete_usesCurrentNames() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        Person renamedBob = new PersonBuilder(BOB).withName("Bob Kurz").build();
+        uniquePersonList.setPerson(BOB, renamedBob);
+        uniquePersonList.delete(ALICE);
+
+        assertEquals(List.of(renamedBob, CARL), uniquePersonList.findPersonsByNameKeywords(List.of("KURZ")));
+        assertEquals(List.of(), uniquePersonList.findPersonsByNameKeywords(List.of("alice", "choo")));
+        assertEquals(List.of(renamedBob), uniquePersonList.findPersonsByNameKeywords(List.of("bob", "Kur")));
+    }
+
+    @Test
+    public void findNamesWithPrefix_mixedCasePrefix_returnsSortedMatchesUpToLimit() {
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(new PersonBuilder().withName("Alice Zhang").build());
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(new PersonBuilder().withName("alicia Tan").build());
+
+        assertEquals(List.of(new Name("Alice Pauline"), new Name("Alice Zhang"), new Name("alicia Tan")),
+                uniquePersonList.findNamesWithPrefix("aLi", 10));
+        assertEquals(List.of(new Name("Alice Pauline"), new Name("Alice Zhang")),
+                uniquePersonList.findNamesWithPrefix("ALI", 2));
+
+        uniquePersonList.delete(ALICE);
+        assertEquals(List.of(new Name("Alice Zhang")), uniquePersonList.findNamesWithPrefix("alice", 10));
+        assertEquals(List.of(), uniquePersonList.findNamesWithPrefix("bob", 10));
+    }
+
+    @Test
+    public void constructor_copy_sharesPersonsAndIndexes() {
+        Person veganBob = new PersonBuilder(BOB).withDietaryRestriction(DietaryRestriction.TypicalRestriction.VEGAN)
+                .build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(veganBob);
+        uniquePersonList.add(CARL);
+
+        UniquePersonList copy = new UniquePersonList(uniquePersonList);
+        assertEquals(uniquePersonList, copy);
+        assertSame(veganBob, copy.findPersonByName(veganBob.getName()));
+        assertEquals(List.of(veganBob), copy.findPersonsMatching(
+                EnumSet.of(DietaryRestriction.TypicalRestriction.VEGAN), Collections.emptySet()));
+        assertEquals(List.of(CARL), copy.findPersonsByNameKeywords(List.of("kurz")));
+        assertEquals(List.of(new Name("Alice Pauline")), copy.findNamesWithPrefix("ali", 10));
+        assertEquals(3, copy.getGuestCounts().getTotal());
+        assertEquals(1, copy.getGuestCounts().getCount(DietaryRestriction.TypicalRestriction.VEGAN));
+    }
+
+    @Test
+    public void constructor_copyReadOnSeveralThreads_allReadersFindPersons() throws Exception {
+        for (int i = 0; i < 200; i++) {
+            uniquePersonList.add(new PersonBuilder().withName("Guest " + i).build());
+        }
+        UniquePersonList copy = new UniquePersonList(uniquePersonList);
+
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(readers.submit(() -> copy.hasPersonByName(new Name("Guest 199"))
+                    && copy.findNamesWithPrefix("guest", 200).size() == 200));
+        }
+        readers.shutdown();
+
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void constructor_copyThenChangeEither_otherUnchanged() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(CARL);
+        UniquePersonList copy = new UniquePersonList(uniquePersonList);
+
+        copy.delete(ALICE);
+        copy.add(BOB);
+        uniquePersonList.setPerson(CARL, new PersonBuilder(CARL).withName("Carl Tan").build());
+
+        assertTrue(uniquePersonList.hasPersonByName(ALICE.getName()));
+        assertFalse(uniquePersonList.hasPersonByName(BOB.getName()));
+        assertEquals(List.of(), uniquePersonList.findPersonsByNameKeywords(List.of("kurz")));
+        assertEquals(2, uniquePersonList.getGuestCounts().getTotal());
+        assertEquals(List.of(CARL, BOB), copy.asUnmodifiableObservableList());
+        assertEquals(List.of(CARL), copy.findPersonsByNameKeywords(List.of("kurz")));
+        assertEquals(List.of(), copy.findNamesWithPrefix("alice", 10));
+        assertEquals(List.of(BOB), copy.findPersonsMatching(Collections.emptySet(), EnumSet.of(Rsvp.Status.NO)));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -3,18 +3,22 @@ package seedu.address.model.table;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.table.exceptions.DuplicateTableException;
 import seedu.address.model.table.exceptions.TableNotFoundException;
@@ -74,6 +78,31 @@ public class UniqueTableListTest {
         assertEquals(table1, uniqueTableList.findTableById(1));
     }
 
+    @Test
+    public void findTableById_afterEarlierTableDeleted_success() {
+        uniqueTableList.addTable(table1);
+        uniqueTableList.addTable(table2);
+        uniqueTableList.deleteTableById(1);
+        assertEquals(table2, uniqueTableList.findTableById(2));
+        assertFalse(uniqueTableList.hasTableById(1));
+    }
+
+    @Test
+    public void hasTableById_idOutsideIndexedRange_returnsFalse() {
+        assertFalse(uniqueTableList.hasTableById(0));
+        assertFalse(uniqueTableList.hasTableById(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void addTable_largeTableId_findsTable() {
+        Table largeIdTable = new Table(Integer.MAX_VALUE, 2, new UniquePersonList());
+        uniqueTableList.addTable(largeIdTable);
+
+        assertSame(largeIdTable, uniqueTableList.findTableById(Integer.MAX_VALUE));
+        uniqueTableList.deleteTableById(Integer.MAX_VALUE);
+        assertFalse(uniqueTableList.hasTableById(Integer.MAX_VALUE));
+    }
+
     @Test
     public void findTableById_notFound_throwsException() {
         assertThrows(TableNotFoundException.class, () -> uniqueTableList.findTableById(100));
@@ -88,6 +117,24 @@ public class UniqueTableListTest {
         assertTrue(updated.getAllPersons().contains(alice));
     }
 
+    @Test
+    public void addPersonToTable_updatesStoredTableInPlace() {
+        uniqueTableList.addTable(table1);
+        uniqueTableList.addTable(table2);
+        List<Integer> changedRows = new ArrayList<>();
+        uniqueTableList.asUnmodifiableObservableList().addListener((ListChangeListener<Table>) change -> {
+            while (change.next()) {
+                changedRows.add(change.getFrom());
+            }
+        });
+
+        uniqueTableList.addPersonToTable(alice, table2);
+
+        assertSame(table2, uniqueTableList.findTableById(2));
+        assertEquals(1, table2.getSize());
+        assertEquals(List.of(1), changedRows);
+    }
+
     @Test
     public void deletePersonFromTable_success() {
         uniqueTableList.addTable(table1);
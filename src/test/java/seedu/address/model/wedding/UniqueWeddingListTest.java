@@ -0,0 +1,90 @@
+package seedu.address.model.wedding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.wedding.exceptions.DuplicateWeddingException;
+import seedu.address.model.wedding.exceptions.WeddingNotFoundException;
+
+public class UniqueWeddingListTest {
+    private UniqueWeddingList uniqueWeddingList;
+    private Wedding johnAndJane;
+    private Wedding bobAndAlice;
+
+    @BeforeEach
+    public void setUp() {
+        uniqueWeddingList = new UniqueWeddingList();
+        johnAndJane = new Wedding("John and Jane");
+        bobAndAlice = new Wedding("Bob and Alice");
+    }
+
+    @Test
+    public void findWeddingByName_differentCase_returnsWedding() {
+        uniqueWeddingList.addWedding(johnAndJane);
+        assertSame(johnAndJane, uniqueWeddingList.findWeddingByName("JOHN AND JANE"));
+        assertTrue(uniqueWeddingList.hasWeddingByName("john and jane"));
+    }
+
+    @Test
+    public void findWeddingByName_notFound_throwsWeddingNotFoundException() {
+        assertThrows(WeddingNotFoundException.class, () -> uniqueWeddingList.findWeddingByName("John and Jane"));
+    }
+
+    @Test
+    public void addWedding_sameNameDifferentCase_throwsIllegalArgumentException() {
+        uniqueWeddingList.addWedding(johnAndJane);
+        assertThrows(IllegalArgumentException.class, () -> uniqueWeddingList.addWedding(new Wedding("JOHN AND JANE")));
+    }
+
+    @Test
+    public void deleteWedding_modifiedWedding_success() {
+        uniqueWeddingList.addWedding(johnAndJane);
+        uniqueWeddingList.addWedding(bobAndAlice);
+        johnAndJane.addPerson(ALICE);
+        uniqueWeddingList.deleteWedding(johnAndJane);
+        assertFalse(uniqueWeddingList.hasWeddingByName("John and Jane"));
+        assertEquals(1, uniqueWeddingList.size());
+    }
+
+    @Test
+    public void deleteWedding_weddingNotInList_throwsWeddingNotFoundException() {
+        uniqueWeddingList.addWedding(johnAndJane);
+        assertThrows(WeddingNotFoundException.class, () -> uniqueWeddingList.deleteWedding(bobAndAlice));
+    }
+
+    @Test
+    public void deleteWedding_sameNameDifferentGuests_deletesStoredWeddingAndKeepsLaterPositions() {
+        uniqueWeddingList.addWedding(johnAndJane);
+        uniqueWeddingList.addWedding(bobAndAlice);
+        Wedding differentGuests = new Wedding("John and Jane");
+        differentGuests.addPerson(ALICE);
+
+        uniqueWeddingList.deleteWedding(differentGuests);
+
+        assertFalse(uniqueWeddingList.hasWeddingByName("John and Jane"));
+        assertSame(bobAndAlice, uniqueWeddingList.findWeddingByName("Bob and Alice"));
+    }
+
+    @Test
+    public void setWedding_renamedWedding_updatesNameLookup() {
+        uniqueWeddingList.addWedding(johnAndJane);
+        uniqueWeddingList.setWedding(johnAndJane, bobAndAlice);
+        assertFalse(uniqueWeddingList.hasWeddingByName("John and Jane"));
+        assertSame(bobAndAlice, uniqueWeddingList.findWeddingByName("Bob and Alice"));
+    }
+
+    @Test
+    public void setWeddings_duplicateNames_throwsDuplicateWeddingException() {
+        assertThrows(DuplicateWeddingException.class, () -> uniqueWeddingList.setWeddings(
+                Arrays.asList(johnAndJane, new Wedding("john and jane"))));
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.model.wedding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.table.Table;
+import seedu.address.model.table.exceptions.DuplicateTableException;
+import seedu.address.model.table.exceptions.TableFullException;
+import seedu.address.model.table.exceptions.TableNotFoundException;
+import seedu.address.testutil.PersonBuilder;
+
+public class WeddingBuilderTest {
+
+    @Test
+    public void build_seatedAndUnseatedGuests_sameAsAddingOneAtATime() {
+        Wedding expected = new Wedding("John and Jane");
+        expected.addTable(new Table(2, 5));
+        expected.addTable(new Table(3, 5));
+        expected.addPerson(ALICE);
+        expected.addPerson(new Person(BENSON, -1));
+        expected.addPersonToTableById(new Person(BENSON, -1), 2);
+        expected.addPerson(new Person(CARL, -1));
+        expected.addPersonToTableById(new Person(CARL, -1), 3);
+
+        Wedding built = new Wedding.Builder("John and Jane")
+                .withTables(Arrays.asList(new Table(2, 5), new Table(3, 5)))
+                .withGuests(Arrays.asList(ALICE, BENSON, CARL))
+                .build();
+
+        assertEquals(expected, built);
+        assertEquals(List.of(BENSON), built.findTableById(2).getAllPersons());
+    }
+
+    @Test
+    public void build_duplicateGuests_throwsDuplicatePersonException() {
+        Wedding.Builder builder = new Wedding.Builder("John and Jane")
+                .withGuests(Arrays.asList(ALICE, new PersonBuilder(ALICE).withPhone("12345678").build()));
+        assertThrows(DuplicatePersonException.class, builder::build);
+    }
+
+    @Test
+    public void build_duplicateTables_throwsDuplicateTableException() {
+        Wedding.Builder builder = new Wedding.Builder("John and Jane")
+                .withTables(Arrays.asList(new Table(2, 5), new Table(2, 8)));
+        assertThrows(DuplicateTableException.class, builder::build);
+    }
+
+    @Test
+    public void build_guestAtMissingTable_throwsTableNotFoundException() {
+        Wedding.Builder builder = new Wedding.Builder("John and Jane")
+                .withTables(Arrays.asList(new Table(3, 5)))
+                .withGuests(Arrays.asList(BENSON));
+        assertThrows(TableNotFoundException.class, builder::build);
+    }
+
+    @Test
+    public void build_tableOverCapacity_throwsTableFullException() {
+        Wedding.Builder builder = new Wedding.Builder("John and Jane")
+                .withTables(Arrays.asList(new Table(2, 1)))
+                .withGuests(Arrays.asList(BENSON, new Person(CARL, 2)));
+        assertThrows(TableFullException.class, builder::build);
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.model.wedding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.table.Table;
+
+public class WeddingTest {
+
+    @Test
+    public void getVersion_copy_sameVersion() {
+        Wedding wedding = new Wedding("John and Jane");
+        wedding.addPerson(ALICE);
+
+        assertEquals(wedding.getVersion(), new Wedding(wedding).getVersion());
+        assertNotEquals(wedding.getVersion(), new Wedding("John and Jane").getVersion());
+    }
+
+    @Test
+    public void getVersion_afterChange_newVersion() {
+        Wedding wedding = new Wedding("John and Jane");
+        Wedding copy = new Wedding(wedding);
+        long version = wedding.getVersion();
+
+        wedding.addTable(new Table(2, 5));
+        long versionWithTable = wedding.getVersion();
+        assertNotEquals(version, versionWithTable);
+
+        wedding.addPerson(new Person(BENSON, -1));
+        wedding.addPersonToTableById(new Person(BENSON, -1), 2);
+        assertNotEquals(versionWithTable, wedding.getVersion());
+
+        // Changing a copy gives it a version of its own
+        copy.addTable(new Table(2, 5));
+        assertNotEquals(versionWithTable, copy.getVersion());
+    }
+
+    @Test
+    public void getVersion_afterLoad_unchanged() {
+        Wedding wedding = new Wedding("John and Jane", () -> new Wedding("John and Jane"));
+        long version = wedding.getVersion();
+
+        wedding.load();
+        assertEquals(version, wedding.getVersion());
+    }
+}
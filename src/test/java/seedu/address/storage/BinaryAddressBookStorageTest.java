@@ -0,0 +1,104 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook2;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private BinaryAddressBookStorage storage;
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempAddressBook.bin");
+        storage = new BinaryAddressBookStorage(filePath);
+        addressBook = getTypicalAddressBook2();
+        addressBook.createWeddingWithName("Jack and Jill");
+        addressBook.setCurrentWeddingByName("Jack and Jill");
+        addressBook.addPerson(AMY);
+    }
+
+    @Test
+    public void readAddressBook_afterSave_returnsWeddingsAndCurrentWedding() throws Exception {
+        storage.saveAddressBook(addressBook);
+
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(addressBook, new AddressBook(readBack));
+        assertEquals("Jack and Jill", readBack.getCurrentWedding().getName());
+    }
+
+    @Test
+    public void saveAddressBook_smallerThanJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(addressBook);
+        storage.saveAddressBook(addressBook);
+
+        assertTrue(Files.size(filePath) * 2 < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_jsonDataFile_convertedOnSave() throws Exception {
+        new ShardedAddressBookStorage(filePath).saveAddressBook(addressBook);
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+
+        storage.saveAddressBook(storage.readAddressBook().get());
+
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_binaryDataFileWithJsonStorage_success() throws Exception {
+        storage.saveAddressBook(addressBook);
+
+        ReadOnlyAddressBook readBack = new ShardedAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(addressBook, new AddressBook(readBack));
+        assertEquals("Jack and Jill", readBack.getCurrentWedding().getName());
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_throwsDataLoadingException() throws Exception {
+        storage.saveAddressBook(addressBook);
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_newerFormatVersion_throwsDataLoadingException() throws Exception {
+        storage.saveAddressBook(addressBook);
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, BinaryAddressBookStorage.FORMAT_VERSION + 1);
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+}
@@ -0,0 +1,153 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook2;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.table.Table;
+import seedu.address.model.wedding.Wedding;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JournaledAddressBookStorage storage;
+    private ModelManager model;
+    private final List<AddressBookChange> changes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("TempAddressBook.json");
+        storage = new JournaledAddressBookStorage(filePath);
+        model = new ModelManager(getTypicalAddressBook2(), new UserPrefs());
+        storage.saveAddressBook(model.getAddressBook());
+
+        model.addAddressBookChangeListener(changes::add);
+        model.setCurrentWeddingByName("John and Jane");
+    }
+
+    @Test
+    public void readAddressBook_changesAppended_replaysChangesOnSnapshot() throws Exception {
+        Person hoon = new Person(HOON, -1);
+        model.addPerson(hoon);
+        model.addPersonToTableById(hoon, 2);
+        model.deletePerson(ALICE);
+        model.deleteTableById(3);
+        model.addTable(new Table(4, 8));
+        model.addWedding(new Wedding("Jack and Jill"));
+
+        storage.appendChanges(changes.subList(0, 3));
+        storage.appendChanges(changes.subList(3, changes.size()));
+
+        assertEquals(new AddressBook(model.getAddressBook()), new AddressBook(storage.readAddressBook().get()));
+        assertFalse(storage.isCompactionDue());
+    }
+
+    @Test
+    public void readAddressBook_weddingSwitched_restoresCurrentWedding() throws Exception {
+        model.addWedding(new Wedding("Jack and Jill"));
+        model.setCurrentWeddingByName("Jack and Jill");
+        storage.appendChanges(changes);
+
+        assertEquals("Jack and Jill", storage.readAddressBook().get().getCurrentWedding().getName());
+    }
+
+    @Test
+    public void readAddressBook_journalOfOtherSnapshot_ignoresJournal() throws Exception {
+        model.addPerson(new Person(HOON, -1));
+        storage.appendChanges(changes);
+        AddressBook otherSnapshot = getTypicalAddressBook2();
+        otherSnapshot.deleteCurrentWedding();
+        new JsonAddressBookStorage(filePath).saveAddressBook(otherSnapshot);
+
+        assertEquals(otherSnapshot, new AddressBook(storage.readAddressBook().get()));
+        assertTrue(storage.isCompactionDue());
+    }
+
+    @Test
+    public void readAddressBook_partlyWrittenChange_replaysChangesBeforeIt() throws Exception {
+        model.addPerson(new Person(HOON, -1));
+        storage.appendChanges(changes);
+        AddressBook expected = new AddressBook(model.getAddressBook());
+        Files.write(JournaledAddressBookStorage.getJournalFilePath(filePath),
+                "{\"type\":\"DELETE_PER".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+        assertTrue(storage.isCompactionDue());
+    }
+
+    @Test
+    public void saveAddressBook_afterChangesAppended_compactsJournal() throws Exception {
+        model.addPerson(new Person(HOON, -1));
+        storage.appendChanges(changes);
+        storage.saveAddressBook(model.getAddressBook());
+
+        assertEquals(1, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(new AddressBook(model.getAddressBook()), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_binarySnapshot_replaysChangesOnSnapshot() throws Exception {
+        JournaledAddressBookStorage binaryStorage = new JournaledAddressBookStorage(filePath, DataFileFormat.BINARY);
+        binaryStorage.saveAddressBook(model.getAddressBook());
+        model.addPerson(new Person(HOON, -1));
+        binaryStorage.appendChanges(changes);
+
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertEquals(new AddressBook(model.getAddressBook()), new AddressBook(binaryStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void isCompactionDue() throws Exception {
+        // journal never started -> returns true
+        assertTrue(new JournaledAddressBookStorage(testFolder.resolve("Other.json")).isCompactionDue());
+
+        // journal just started -> returns false
+        assertFalse(storage.isCompactionDue());
+
+        // journal too large -> returns true
+        JournaledAddressBookStorage smallJournalStorage =
+                new JournaledAddressBookStorage(filePath, 1, JournaledAddressBookStorage.DEFAULT_MAX_JOURNAL_AGE);
+        smallJournalStorage.saveAddressBook(model.getAddressBook());
+        assertTrue(smallJournalStorage.isCompactionDue());
+
+        // journal too old -> returns true
+        JournaledAddressBookStorage shortLivedJournalStorage = new JournaledAddressBookStorage(filePath,
+                JournaledAddressBookStorage.DEFAULT_MAX_JOURNAL_SIZE, Duration.ZERO);
+        shortLivedJournalStorage.saveAddressBook(model.getAddressBook());
+        assertTrue(shortLivedJournalStorage.isCompactionDue());
+    }
+
+    @Test
+    public void appendChanges_journalNeverStarted_throwsIoException() {
+        JournaledAddressBookStorage otherStorage = new JournaledAddressBookStorage(testFolder.resolve("Other.json"));
+        List<AddressBookChange> toAppend = Arrays.asList(AddressBookChange.deleteWedding("John and Jane"));
+        assertThrows(IOException.class, () -> otherStorage.appendChanges(toAppend));
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook2;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.wedding.Wedding;
+
+public class JsonStreamingSerializerTest {
+
+    private static final Path TYPICAL_PERSONS_FILE = Paths.get("src", "test", "data",
+            "JsonSerializableAddressBookTest", "typicalPersonsAddressBook.json");
+
+    @Test
+    public void readAddressBook_afterWriteAddressBook_sameAddressBook() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook2();
+        addressBook.createWeddingWithName("Jack and Jill");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonStreamingSerializer.writeAddressBook(addressBook, out);
+
+        assertEquals(addressBook, JsonStreamingSerializer.readAddressBook(new ByteArrayInputStream(out.toByteArray())));
+    }
+
+    @Test
+    public void readAddressBook_fileWrittenByJsonSerializableAddressBook_success() throws Exception {
+        AddressBook fromDatabind = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE, JsonSerializableAddressBook.class)
+                .get().toModelType();
+        AddressBook fromStream = JsonStreamingSerializer.readAddressBook(
+                new ByteArrayInputStream(Files.readAllBytes(TYPICAL_PERSONS_FILE)));
+        assertEquals(fromDatabind, fromStream);
+    }
+
+    @Test
+    public void readWedding_guestsBeforeTables_seatsGuests() throws Exception {
+        Wedding wedding = getTypicalAddressBook2().getCurrentWedding();
+        // Jackson writes the guests of a JsonAdaptedWedding before its tables
+        String json = JsonUtil.toJsonString(new JsonAdaptedWedding(wedding));
+
+        Wedding readBack = JsonStreamingSerializer.readWedding(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(wedding, readBack);
+        assertEquals(1, readBack.findTableById(2).getSize());
+    }
+
+    @Test
+    public void writeWedding_readByJsonAdaptedWedding_sameWedding() throws Exception {
+        Wedding wedding = getTypicalAddressBook2().getCurrentWedding();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonStreamingSerializer.writeWedding(wedding, out);
+        String json = new String(out.toByteArray(), StandardCharsets.UTF_8);
+
+        assertEquals(wedding, JsonUtil.fromJsonString(json, JsonAdaptedWedding.class).toModelType());
+    }
+
+    @Test
+    public void readAddressBook_duplicateWeddings_throwsIllegalValueException() {
+        byte[] bytes = "{\"weddings\": [{\"name\": \"John and Jane\"}, {\"name\": \"john and jane\"}]}"
+                .getBytes(StandardCharsets.UTF_8);
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_WEDDING, () ->
+                JsonStreamingSerializer.readAddressBook(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    public void readWedding_nonNumericTableId_throwsIoException() {
+        for (String tableId : new String[] {"\"abc\"", "true", "1.9"}) {
+            byte[] bytes = ("{\"name\": \"John and Jane\", \"tables\": [{\"tableId\": " + tableId
+                    + ", \"capacity\": 5}]}").getBytes(StandardCharsets.UTF_8);
+            assertThrows(IOException.class, () -> JsonStreamingSerializer.readWedding(new ByteArrayInputStream(bytes)));
+        }
+    }
+
+    @Test
+    public void readAddressBook_notJson_throwsIoException() {
+        byte[] bytes = "weddings: none".getBytes(StandardCharsets.UTF_8);
+        assertThrows(IOException.class, () -> JsonStreamingSerializer.readAddressBook(new ByteArrayInputStream(bytes)));
+    }
+}
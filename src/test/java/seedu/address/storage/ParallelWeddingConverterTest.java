@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.wedding.Wedding;
+
+public class ParallelWeddingConverterTest {
+
+    @Test
+    public void finish_manyWeddings_returnsWeddingsInSubmittedOrder() throws Exception {
+        ParallelWeddingConverter converter = new ParallelWeddingConverter();
+        List<Wedding> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Wedding wedding = new Wedding("Wedding " + i);
+            expected.add(wedding);
+            converter.submit(() -> wedding);
+        }
+
+        assertEquals(expected, converter.finish());
+    }
+
+    @Test
+    public void finish_laterWeddingFailsFirst_reportsFailureOfEarlierWedding() {
+        CountDownLatch laterWeddingFailed = new CountDownLatch(1);
+
+        assertThrows(IllegalValueException.class, "first", () -> {
+            ParallelWeddingConverter converter = new ParallelWeddingConverter();
+            converter.submit(() -> {
+                try {
+                    laterWeddingFailed.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IllegalValueException("first");
+            });
+            converter.submit(() -> {
+                laterWeddingFailed.countDown();
+                throw new IllegalValueException("second");
+            });
+            converter.finish();
+        });
+    }
+
+    @Test
+    public void finish_runtimeFailure_rethrown() {
+        assertThrows(IllegalArgumentException.class, "invalid table", () -> {
+            ParallelWeddingConverter converter = new ParallelWeddingConverter();
+            converter.submit(() -> new Wedding("Fine"));
+            converter.submit(() -> {
+                throw new IllegalArgumentException("invalid table");
+            });
+            converter.finish();
+        });
+    }
+}
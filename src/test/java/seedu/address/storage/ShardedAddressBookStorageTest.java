@@ -0,0 +1,185 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook2;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.wedding.exceptions.WeddingLoadingException;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private ShardedAddressBookStorage storage;
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempAddressBook.json");
+        storage = new ShardedAddressBookStorage(filePath);
+        addressBook = getTypicalAddressBook2();
+        addressBook.createWeddingWithName("Jack and Jill");
+        addressBook.setCurrentWeddingByName("Jack and Jill");
+        addressBook.addPerson(AMY);
+    }
+
+    @Test
+    public void readAddressBook_afterSave_returnsWeddingsAndCurrentWedding() throws Exception {
+        storage.saveAddressBook(addressBook);
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(addressBook, new AddressBook(readBack));
+        assertEquals("Jack and Jill", readBack.getCurrentWedding().getName());
+        assertEquals(2, getShardFiles().size());
+    }
+
+    @Test
+    public void saveAddressBook_oneWeddingChanged_rewritesOnlyItsShard() throws Exception {
+        storage.saveAddressBook(addressBook);
+        Set<String> shardFiles = getShardFiles();
+
+        addressBook.setCurrentWeddingByName("John and Jane");
+        addressBook.deletePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        Set<String> newShardFiles = getShardFiles();
+
+        assertEquals(2, newShardFiles.size());
+        assertTrue(newShardFiles.stream().anyMatch(file -> file.startsWith("jack-and-jill-")
+                && shardFiles.contains(file)));
+        assertTrue(newShardFiles.stream().anyMatch(file -> file.startsWith("john-and-jane-")
+                && !shardFiles.contains(file)));
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_weddingVersionsSavedBefore_keepsShardsWithoutWritingWeddings() throws Exception {
+        storage.saveAddressBook(addressBook);
+        Set<String> shardFiles = getShardFiles();
+
+        // Changing the guest list directly does not give the wedding a new version
+        addressBook.getCurrentWedding().getUniquePersonList().add(BOB);
+        storage.saveAddressBook(new AddressBook(addressBook));
+        assertEquals(shardFiles, getShardFiles());
+
+        // A storage that has not seen the versions before writes the weddings out
+        new ShardedAddressBookStorage(filePath).saveAddressBook(addressBook);
+        assertNotEquals(shardFiles, getShardFiles());
+    }
+
+    @Test
+    public void saveAddressBook_weddingChangedAfterRead_rewritesOnlyItsShard() throws Exception {
+        storage.saveAddressBook(addressBook);
+        Set<String> shardFiles = getShardFiles();
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        storage.saveAddressBook(readBack);
+        assertEquals(shardFiles, getShardFiles());
+
+        readBack.addPerson(BOB);
+        storage.saveAddressBook(readBack);
+        Set<String> newShardFiles = getShardFiles();
+        assertTrue(newShardFiles.stream().anyMatch(file -> file.startsWith("jack-and-jill-")
+                && !shardFiles.contains(file)));
+        assertTrue(newShardFiles.stream().anyMatch(file -> file.startsWith("john-and-jane-")
+                && shardFiles.contains(file)));
+    }
+
+    @Test
+    public void readAddressBook_dataFileWithAllWeddings_success() throws Exception {
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(addressBook, new AddressBook(readBack));
+        assertFalse(readBack.hasCurrentWedding());
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_afterSave_readsOnlyCurrentWedding() throws Exception {
+        storage.saveAddressBook(addressBook);
+        Set<String> shardFiles = getShardFiles();
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertTrue(readBack.getCurrentWedding().isLoaded());
+        assertFalse(readBack.getWeddingByName("John and Jane").isLoaded());
+
+        // saving again keeps the shard of the wedding that was not loaded
+        storage.saveAddressBook(readBack);
+        assertEquals(shardFiles, getShardFiles());
+        assertFalse(readBack.getWeddingByName("John and Jane").isLoaded());
+
+        readBack.setCurrentWeddingByName("John and Jane");
+        assertEquals(addressBook, readBack);
+    }
+
+    @Test
+    public void readAddressBook_corruptedShardOfCurrentWedding_throwsDataLoadingException() throws Exception {
+        storage.saveAddressBook(addressBook);
+        corruptShards("");
+
+        DataLoadingException exception = null;
+        try {
+            storage.readAddressBook();
+        } catch (DataLoadingException e) {
+            exception = e;
+        }
+
+        assertNotNull(exception);
+        assertTrue(exception.getCause().getMessage().contains("jack-and-jill-"));
+    }
+
+    @Test
+    public void setCurrentWedding_corruptedShardOfOtherWedding_throwsWeddingLoadingException() throws Exception {
+        addressBook.setCurrentWeddingByName("John and Jane");
+        storage.saveAddressBook(addressBook);
+        corruptShards("jack-and-jill-");
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertThrows(WeddingLoadingException.class, () -> readBack.setCurrentWeddingByName("Jack and Jill"));
+        assertEquals("John and Jane", readBack.getCurrentWedding().getName());
+    }
+
+    private void corruptShards(String shardFilePrefix) throws Exception {
+        Path shardDirectory = ShardedAddressBookStorage.getShardDirectoryPath(filePath);
+        for (String shardFile : getShardFiles()) {
+            if (!shardFile.startsWith(shardFilePrefix)) {
+                continue;
+            }
+            Files.write(shardDirectory.resolve(shardFile), "{}".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private Set<String> getShardFiles() throws Exception {
+        try (Stream<Path> files = Files.list(ShardedAddressBookStorage.getShardDirectoryPath(filePath))) {
+            return files.map(file -> file.getFileName().toString()).collect(Collectors.toCollection(TreeSet::new));
+        }
+    }
+}
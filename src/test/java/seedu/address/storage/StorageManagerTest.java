@@ -1,10 +1,20 @@
 package seedu.address.storage;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook2;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,8 +22,10 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.wedding.Wedding;
 
 public class StorageManagerTest {
 
@@ -60,6 +72,127 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_writeBehind_coalescesSavesIntoOneWriteOfLatestSnapshot() throws Exception {
+        List<ReadOnlyAddressBook> writes = new ArrayList<>();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                writes.add(addressBook);
+            }
+        };
+        // Long enough that nothing is written before the flush
+        storageManager = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                TimeUnit.HOURS.toMillis(1));
+
+        AddressBook addressBook = getTypicalAddressBook2();
+        storageManager.saveAddressBook(new AddressBook());
+        storageManager.saveAddressBook(addressBook);
+        AddressBook expected = new AddressBook(addressBook);
+        addressBook.deleteCurrentWedding();
+        storageManager.flushAddressBook();
+
+        assertEquals(1, writes.size());
+        assertEquals(expected, new AddressBook(writes.get(0)));
+    }
+
+    @Test
+    public void flushAddressBook_writeFails_throwsIoExceptionAndKeepsSnapshotPending() throws Exception {
+        IOException failure = new IOException("disk full");
+        int[] attempts = new int[1];
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                attempts[0]++;
+                throw failure;
+            }
+        };
+        storageManager = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                TimeUnit.HOURS.toMillis(1));
+
+        storageManager.saveAddressBook(getTypicalAddressBook2());
+        assertThrows(IOException.class, () -> storageManager.flushAddressBook());
+        assertThrows(IOException.class, () -> storageManager.flushAddressBook());
+        assertEquals(2, attempts[0]);
+    }
+
+    @Test
+    public void saveAddressBook_backgroundWriteFails_notifiesSaveFailureHandler() throws Exception {
+        IOException failure = new IOException("disk full");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        storageManager = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")), 0);
+        CompletableFuture<IOException> reported = new CompletableFuture<>();
+        storageManager.setSaveFailureHandler(reported::complete);
+
+        storageManager.saveAddressBook(getTypicalAddressBook2());
+
+        assertSame(failure, reported.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void saveAddressBookChanges_journaledStorage_appendsChangesWithoutRewritingDataFile() throws Exception {
+        Path filePath = getTempFilePath("ab");
+        storageManager = new StorageManager(new JournaledAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        AddressBook addressBook = getTypicalAddressBook2();
+        storageManager.saveAddressBook(addressBook);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        addressBook.createWeddingWithName("Jack and Jill");
+        storageManager.saveAddressBookChanges(addressBook,
+                Arrays.asList(AddressBookChange.addWedding(new Wedding("Jack and Jill"))));
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void flushAddressBook_afterBackgroundAppendFails_writesChangesInFull() throws Exception {
+        Path filePath = getTempFilePath("ab");
+        JournaledAddressBookStorage failingJournal = new JournaledAddressBookStorage(filePath) {
+            @Override
+            public synchronized void appendChanges(List<AddressBookChange> changes) throws IOException {
+                throw new IOException("Journal is not writable");
+            }
+        };
+        storageManager = new StorageManager(failingJournal, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                TimeUnit.DAYS.toMillis(1));
+        CompletableFuture<IOException> failure = new CompletableFuture<>();
+        storageManager.setSaveFailureHandler(failure::complete);
+        AddressBook addressBook = getTypicalAddressBook2();
+        storageManager.saveAddressBook(addressBook);
+        storageManager.flushAddressBook();
+
+        addressBook.createWeddingWithName("Jack and Jill");
+        storageManager.saveAddressBookChanges(addressBook,
+                Arrays.asList(AddressBookChange.addWedding(new Wedding("Jack and Jill"))));
+        addressBook.createWeddingWithName("Tom and Tina");
+        storageManager.saveAddressBookChanges(addressBook,
+                Arrays.asList(AddressBookChange.addWedding(new Wedding("Tom and Tina"))));
+        storageManager.flushAddressBook();
+
+        assertEquals("Journal is not writable", failure.get(5, TimeUnit.SECONDS).getMessage());
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_reset_savesWholeAddressBook() throws Exception {
+        Path filePath = getTempFilePath("ab");
+        storageManager = new StorageManager(new JournaledAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        storageManager.saveAddressBook(new AddressBook());
+
+        AddressBook addressBook = getTypicalAddressBook2();
+        storageManager.saveAddressBookChanges(addressBook, Arrays.asList(AddressBookChange.reset()));
+
+        assertEquals(addressBook, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());